@@ -6,11 +6,16 @@ import com.bank.model.Account;
 import com.bank.model.CurrentAccount;
 import com.bank.model.SavingsAccount;
 import com.bank.model.Transaction;
+import com.bank.service.AccountOperations;
 import com.bank.service.AccountService;
+import com.bank.service.MappedAccountService;
 import com.bank.util.FileManager;
+import com.bank.util.MappedAccountStore;
 import com.bank.util.ServiceQueue;
 import com.bank.util.TransactionStack;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Scanner;
@@ -26,7 +31,11 @@ import java.util.Scanner;
  * Day 3: Exception handling — try-catch, custom exceptions
  * Day 4: Collections — ArrayList + HashMap for account management
  * Day 5: Data structures — Stack (undo), Queue (service requests)
- * Day 7: File I/O — CSV and serialization persistence
+ * Day 7: File I/O — CSV and serialization persistence, memory-mapped store
+ *        (once saved to or loaded from the mapped store, every balance change
+ *         and new account is written through to it — no need to save again;
+ *         loading it serves accounts from the file via MappedAccountService,
+ *         reading a record only when that account is used)
  *
  * Menu options:
  *  1. Create Account
@@ -45,12 +54,16 @@ public class BankApp {
     // File paths for persistence
     private static final String ACCOUNTS_CSV = "data/accounts.csv";
     private static final String ACCOUNTS_DAT = "data/accounts.dat";
+    private static final String ACCOUNTS_STORE = "data/accounts.store";
 
     // Core services and data structures
-    private static AccountService accountService = new AccountService();
+    private static AccountOperations accountService = new AccountService();
     private static TransactionStack transactionStack = new TransactionStack();
     private static ServiceQueue serviceQueue = new ServiceQueue();
 
+    // Open memory-mapped store (null until saved to / loaded from it)
+    private static MappedAccountStore accountStore;
+
     public static void main(String[] args) {
         Scanner sc = new Scanner(System.in);
 
@@ -103,6 +116,7 @@ public class BankApp {
                 case 10:
                     System.out.println("\nThank you for banking with us!");
                     System.out.println("Goodbye!");
+                    closeAccountStore();
                     break;
                 default:
                     System.out.println("Invalid choice. Please select 1-10.");
@@ -165,23 +179,27 @@ public class BankApp {
                 return;
             }
 
+            Account created;
             if (type.equals("S")) {
                 System.out.print("Interest rate (%, default 4.0): ");
                 double rate = sc.nextDouble();
-                accountService.createSavingsAccount(name, balance, rate);
+                created = accountService.createSavingsAccount(name, balance, rate);
             } else if (type.equals("C")) {
                 System.out.print("Overdraft limit (default 10000): ");
                 double limit = sc.nextDouble();
-                accountService.createCurrentAccount(name, balance, limit);
+                created = accountService.createCurrentAccount(name, balance, limit);
             } else {
                 System.out.println("Invalid account type. Use S for Savings or C for Current.");
                 return;
             }
+            writeThrough(created);
 
             System.out.println("Total accounts: " + accountService.getAccountCount());
         } catch (InputMismatchException e) {
             System.out.println("Invalid input. Please enter valid numbers.");
             sc.nextLine();
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            System.out.println("Account not created: " + e.getMessage());   // mapped store refused the record
         }
     }
 
@@ -226,6 +244,7 @@ public class BankApp {
             double balanceBefore = acc.getBalance();
 
             acc.deposit(amount);
+            writeBalanceThrough(acc);
 
             // Push transaction onto the stack for undo support
             Transaction txn = new Transaction(accNo, "DEPOSIT", amount,
@@ -262,6 +281,7 @@ public class BankApp {
             double balanceBefore = acc.getBalance();
 
             acc.withdraw(amount);
+            writeBalanceThrough(acc);
 
             // Push transaction onto the stack for undo support
             Transaction txn = new Transaction(accNo, "WITHDRAW", amount,
@@ -335,6 +355,7 @@ public class BankApp {
         try {
             Account acc = accountService.getByAccountNumber(lastTxn.getAccountNumber());
             transactionStack.undoLast(acc);
+            writeBalanceThrough(acc);
         } catch (AccountNotFoundException e) {
             System.out.println("Cannot undo: " + e.getMessage());
             // Pop the transaction anyway since the account no longer exists
@@ -393,20 +414,27 @@ public class BankApp {
     // ==================== 8. SAVE TO FILE ====================
 
     /**
-     * Save accounts to file — offers both CSV and serialization formats.
+     * Save accounts to file — offers CSV, serialization and the memory-mapped store.
      *
      * CSV: Human-readable, can be opened in Excel or any text editor
      * Serialization: Binary format, quick Java-only persistence
+     * Mapped store: Binary fixed-width records, kept open and updated in place afterwards
      */
     private static void handleSaveToFile(Scanner sc) {
         System.out.println("\n--- Save Data ---");
         System.out.println("1. Save as CSV (human-readable)");
         System.out.println("2. Save as Serialized (binary)");
         System.out.println("3. Save Both");
+        System.out.println("4. Save to Memory-Mapped Store (updated in place from then on)");
         System.out.print("Choose format: ");
 
         try {
             int option = sc.nextInt();
+            if (option == 4 && accountService instanceof MappedAccountService) {
+                accountStore.flush();   // already served from the store — nothing to copy
+                System.out.println("Accounts are already in mapped store " + ACCOUNTS_STORE);
+                return;
+            }
             List<Account> accounts = accountService.getAllAccounts();
 
             switch (option) {
@@ -420,6 +448,10 @@ public class BankApp {
                     FileManager.saveAccountsCSV(accounts, ACCOUNTS_CSV);
                     FileManager.serializeAccounts(accounts, ACCOUNTS_DAT);
                     break;
+                case 4:
+                    closeAccountStore();
+                    accountStore = FileManager.saveAccountsMapped(accounts, ACCOUNTS_STORE);
+                    break;
                 default:
                     System.out.println("Invalid option.");
             }
@@ -432,13 +464,14 @@ public class BankApp {
     // ==================== 9. LOAD FROM FILE ====================
 
     /**
-     * Load accounts from file — offers both CSV and deserialization.
+     * Load accounts from file — offers CSV, deserialization and the memory-mapped store.
      * Clears existing accounts before loading to avoid duplicates.
      */
     private static void handleLoadFromFile(Scanner sc) {
         System.out.println("\n--- Load Data ---");
         System.out.println("1. Load from CSV");
         System.out.println("2. Load from Serialized (binary)");
+        System.out.println("3. Load from Memory-Mapped Store");
         System.out.print("Choose format: ");
 
         try {
@@ -449,7 +482,8 @@ public class BankApp {
                 case 1:
                     loaded = FileManager.loadAccountsCSV(ACCOUNTS_CSV);
                     if (!loaded.isEmpty()) {
-                        accountService.clearAll();
+                        closeAccountStore();    // the store no longer mirrors memory — stop writing through
+                        accountService = new AccountService();
                         for (Account acc : loaded) {
                             accountService.addAccount(acc);
                         }
@@ -459,13 +493,23 @@ public class BankApp {
                 case 2:
                     loaded = FileManager.deserializeAccounts(ACCOUNTS_DAT);
                     if (!loaded.isEmpty()) {
-                        accountService.clearAll();
+                        closeAccountStore();    // the store no longer mirrors memory — stop writing through
+                        accountService = new AccountService();
                         for (Account acc : loaded) {
                             accountService.addAccount(acc);
                         }
                         System.out.println("Loaded " + loaded.size() + " accounts from serialized file.");
                     }
                     break;
+                case 3:
+                    MappedAccountStore store = FileManager.openAccountStore(ACCOUNTS_STORE);
+                    if (store != null) {
+                        closeAccountStore();
+                        accountStore = store;
+                        accountService = new MappedAccountService(store);   // records are read on first use
+                        System.out.println("Opened " + store.size() + " accounts from mapped store.");
+                    }
+                    break;
                 default:
                     System.out.println("Invalid option.");
             }
@@ -475,6 +519,43 @@ public class BankApp {
         }
     }
 
+    // ==================== MAPPED STORE WRITE-THROUGH ====================
+
+    /**
+     * Write a new or changed account to the open mapped store (if any).
+     */
+    private static void writeThrough(Account acc) {
+        if (accountStore == null) return;
+        try {
+            accountStore.put(acc);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("WARNING: account #" + acc.getAccountNumber()
+                    + " not written to mapped store: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write one balance to the open mapped store (if any) — an O(1) in-place update.
+     */
+    private static void writeBalanceThrough(Account acc) {
+        if (accountStore == null) return;
+        if (accountStore.contains(acc.getAccountNumber())) {
+            accountStore.updateBalance(acc.getAccountNumber(), acc.getBalance());
+        } else {
+            writeThrough(acc);
+        }
+    }
+
+    private static void closeAccountStore() {
+        if (accountStore == null) return;
+        try {
+            accountStore.close();
+        } catch (IOException e) {
+            System.out.println("Error closing mapped store: " + e.getMessage());
+        }
+        accountStore = null;
+    }
+
     // ==================== SAMPLE DATA ====================
 
     /**
@@ -0,0 +1,107 @@
+package com.bank;
+
+import com.bank.model.Account;
+import com.bank.util.FileManager;
+import com.bank.util.MappedAccountStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * StoreMigration — converts saved accounts (.dat serialized file or CSV) into a
+ * memory-mapped account store (MappedAccountStore).
+ *
+ * Steps:
+ * 1. Read the source with the existing FileManager loader (.csv -> CSV, anything else -> serialized)
+ * 2. Write every account into a new store file (an existing target is replaced)
+ * 3. Re-open the store and check it: same number of accounts, same total balance,
+ *    and every account reads back with the same number, type and balance
+ *
+ * Run with:
+ *   mvn compile exec:java -Dexec.mainClass=com.bank.StoreMigration -Dexec.args="data/accounts.dat data/accounts.store"
+ * Arguments: [source .dat or .csv file] [target store file]
+ * Exits with status 1 if the source can't be read or the check fails.
+ */
+public class StoreMigration {
+
+    public static void main(String[] args) throws IOException {
+        String source = args.length > 0 ? args[0] : "data/accounts.dat";
+        String target = args.length > 1 ? args[1] : "data/accounts.store";
+
+        if (!new File(source).exists()) {
+            System.out.println("Source file not found: " + source);
+            System.exit(1);
+        }
+
+        // 1. Read
+        long start = System.nanoTime();
+        List<Account> accounts = source.toLowerCase().endsWith(".csv")
+                ? FileManager.loadAccountsCSV(source)
+                : FileManager.deserializeAccounts(source);
+        long readMs = (System.nanoTime() - start) / 1_000_000;
+        if (accounts.isEmpty()) {
+            System.out.println("No accounts read from " + source + " — nothing to migrate.");
+            System.exit(1);
+        }
+
+        // 2. Write
+        start = System.nanoTime();
+        MappedAccountStore store = FileManager.saveAccountsMapped(accounts, target);
+        if (store == null) {
+            System.exit(1);
+        }
+        store.close();
+        long writeMs = (System.nanoTime() - start) / 1_000_000;
+
+        // 3. Re-open and check
+        start = System.nanoTime();
+        String broken;
+        try (MappedAccountStore reopened = MappedAccountStore.open(target)) {
+            long openMs = (System.nanoTime() - start) / 1_000_000;
+            broken = check(accounts, reopened);
+            System.out.printf("Read source:  %,d ms%n", readMs);
+            System.out.printf("Write store:  %,d ms%n", writeMs);
+            System.out.printf("Open store:   %,d ms (%,d accounts, %,d bytes)%n",
+                    openMs, reopened.size(), new File(target).length());
+        }
+
+        if (broken != null) {
+            System.out.println("Migration check FAILED: " + broken);
+            System.exit(1);
+        }
+        System.out.println("Migrated " + accounts.size() + " accounts from " + source + " to " + target);
+    }
+
+    /**
+     * @return Description of the first mismatch, or null if the store matches the source
+     */
+    private static String check(List<Account> accounts, MappedAccountStore store) {
+        if (store.size() != accounts.size()) {
+            return "Store has " + store.size() + " accounts, source had " + accounts.size()
+                    + " (duplicate account numbers in the source?)";
+        }
+        double sourceTotal = 0;
+        for (Account expected : accounts) {
+            Account actual = store.get(expected.getAccountNumber());
+            if (actual == null) {
+                return "Account #" + expected.getAccountNumber() + " missing from the store";
+            }
+            if (!actual.getAccountType().equals(expected.getAccountType())
+                    || actual.getBalance() != expected.getBalance()) {
+                return "Account #" + expected.getAccountNumber() + " reads back as " + actual.getAccountType()
+                        + " Rs." + actual.getBalance() + ", source has " + expected.getAccountType()
+                        + " Rs." + expected.getBalance();
+            }
+            sourceTotal += expected.getBalance();
+        }
+        double storeTotal = 0;
+        for (Account acc : store.loadAll()) {   // slot order = source order, so the sums match exactly
+            storeTotal += acc.getBalance();
+        }
+        if (storeTotal != sourceTotal) {
+            return "Total balance Rs." + storeTotal + " in the store, Rs." + sourceTotal + " in the source";
+        }
+        return null;
+    }
+}
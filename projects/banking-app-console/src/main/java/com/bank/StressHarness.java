@@ -0,0 +1,193 @@
+package com.bank;
+
+import com.bank.exception.AccountNotFoundException;
+import com.bank.exception.InsufficientFundsException;
+import com.bank.model.Account;
+import com.bank.model.CurrentAccount;
+import com.bank.model.SavingsAccount;
+import com.bank.service.ConcurrentAccountService;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * StressHarness — many tellers hammering one ConcurrentAccountService.
+ *
+ * For each thread count a fresh service is loaded with the same accounts, then every thread
+ * runs the same number of random operations on random accounts:
+ *   40% transfer, 25% deposit, 25% withdraw, 10% balance read
+ * Amounts are whole rupees, so every sum below is exact in a double.
+ *
+ * After each run the invariants are checked:
+ * - Total balance = starting total + everything deposited - everything withdrawn
+ *   (transfers only move money, so they must not change the total)
+ * - No savings account below its minimum balance, no current account past its overdraft
+ * - No account lost or duplicated
+ * and throughput is reported as ops/sec per thread count.
+ *
+ * Run with:
+ *   mvn compile exec:java -Dexec.mainClass=com.bank.StressHarness -Dexec.args="10000 200000 1,2,4,8,16"
+ * Arguments: [accounts] [operations per thread] [comma-separated thread counts]
+ * Exits with status 1 if any invariant is broken.
+ */
+public class StressHarness {
+
+    private static final double STARTING_BALANCE = 5_000;    // low enough that withdrawals get declined
+    private static final double OVERDRAFT_LIMIT = 10_000;
+    private static final int MAX_AMOUNT = 1_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int opsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        String threadCounts = args.length > 2 ? args[2] : "1,2,4,8,16";
+
+        System.out.println("Stress test: " + accounts + " accounts, " + opsPerThread + " operations per thread");
+        System.out.printf("%8s %14s %12s %10s%n", "threads", "ops/sec", "declined", "invariants");
+
+        boolean allOk = true;
+        for (String count : threadCounts.split(",")) {
+            allOk &= run(accounts, opsPerThread, Integer.parseInt(count.trim()));
+        }
+        if (!allOk) {
+            System.exit(1);
+        }
+    }
+
+    // ==================== ONE RUN ====================
+
+    private static boolean run(int accounts, int opsPerThread, int threads) throws InterruptedException {
+        ConcurrentAccountService service = new ConcurrentAccountService();
+        for (int i = 0; i < accounts; i++) {
+            long accNo = 1001 + i;
+            if (i % 2 == 0) {
+                service.addAccount(new SavingsAccount(accNo, "Saver " + i, STARTING_BALANCE));
+            } else {
+                service.addAccount(new CurrentAccount(accNo, "Trader " + i, STARTING_BALANCE, OVERDRAFT_LIMIT));
+            }
+        }
+        double startingTotal = service.getTotalBalance();
+
+        Teller[] tellers = new Teller[threads];
+        Thread[] workers = new Thread[threads];
+        CountDownLatch go = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            Teller teller = new Teller(service, accounts, opsPerThread, 42 + t, go);
+            tellers[t] = teller;
+            workers[t] = new Thread(teller, "teller-" + t);
+            workers[t].start();
+        }
+
+        long start = System.nanoTime();
+        go.countDown();   // all tellers start together
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Invariants
+        double deposited = 0, withdrawn = 0;
+        long declined = 0;
+        for (Teller teller : tellers) {
+            if (teller.error != null) {
+                System.out.println("Teller failed: " + teller.error);
+                return false;
+            }
+            deposited += teller.deposited;
+            withdrawn += teller.withdrawn;
+            declined += teller.declined;
+        }
+        String broken = checkInvariants(service, accounts, startingTotal + deposited - withdrawn);
+
+        System.out.printf("%8d %14.0f %12d %10s%n", threads, (double) threads * opsPerThread / seconds, declined,
+                broken == null ? "OK" : "BROKEN");
+        if (broken != null) {
+            System.out.println("  " + broken);
+        }
+        return broken == null;
+    }
+
+    /**
+     * @return Description of the first broken invariant, or null if all hold
+     */
+    private static String checkInvariants(ConcurrentAccountService service, int accounts, double expectedTotal) {
+        if (service.getAccountCount() != accounts) {
+            return "Expected " + accounts + " accounts, found " + service.getAccountCount();
+        }
+        double total = service.getTotalBalance();
+        if (total != expectedTotal) {
+            return "Total balance Rs." + total + " but deposits/withdrawals add up to Rs." + expectedTotal;
+        }
+        for (Account acc : service.getAllAccounts()) {
+            if (acc instanceof SavingsAccount && acc.getBalance() < SavingsAccount.getMinimumBalance()) {
+                return "Savings account #" + acc.getAccountNumber() + " below minimum: Rs." + acc.getBalance();
+            }
+            if (acc instanceof CurrentAccount && acc.getBalance() < -((CurrentAccount) acc).getOverdraftLimit()) {
+                return "Current account #" + acc.getAccountNumber() + " past overdraft: Rs." + acc.getBalance();
+            }
+        }
+        return null;
+    }
+
+    // ==================== ONE TELLER (thread) ====================
+
+    /**
+     * Runs random operations and keeps its own totals (no shared counters to contend on).
+     */
+    private static class Teller implements Runnable {
+
+        private final ConcurrentAccountService service;
+        private final int accounts;
+        private final int ops;
+        private final SplittableRandom random;
+        private final CountDownLatch go;
+
+        double deposited;
+        double withdrawn;
+        long declined;
+        Exception error;
+
+        Teller(ConcurrentAccountService service, int accounts, int ops, long seed, CountDownLatch go) {
+            this.service = service;
+            this.accounts = accounts;
+            this.ops = ops;
+            this.random = new SplittableRandom(seed);
+            this.go = go;
+        }
+
+        @Override
+        public void run() {
+            try {
+                go.await();
+                for (int i = 0; i < ops; i++) {
+                    long accNo = randomAccount();
+                    double amount = 1 + random.nextInt(MAX_AMOUNT);
+                    int op = random.nextInt(100);
+                    try {
+                        if (op < 40) {
+                            long other = randomAccount();
+                            if (other != accNo) {
+                                service.transfer(accNo, other, amount);
+                            }
+                        } else if (op < 65) {
+                            service.deposit(accNo, amount);
+                            deposited += amount;
+                        } else if (op < 90) {
+                            service.withdraw(accNo, amount);
+                            withdrawn += amount;
+                        } else {
+                            service.getBalance(accNo);
+                        }
+                    } catch (InsufficientFundsException e) {
+                        declined++;   // a business rule said no — expected under load
+                    }
+                }
+            } catch (InterruptedException | AccountNotFoundException | RuntimeException e) {
+                error = e;
+            }
+        }
+
+        private long randomAccount() {
+            return 1001 + random.nextInt(accounts);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.io.Serializable;
  * Day 2: Created as abstract class with inheritance hierarchy
  * Day 3: Added exception throwing in deposit/withdraw
  * Day 7: Added Serializable for file persistence
+ * Concurrency: silent credit()/debit() carry the rules; deposit()/withdraw() add the console output
  */
 public abstract class Account implements Serializable {
 
@@ -55,6 +56,16 @@ public abstract class Account implements Serializable {
      * Throws IllegalArgumentException for invalid amounts.
      */
     public void deposit(double amount) {
+        credit(amount);
+        System.out.println("Deposited Rs." + amount + " | New Balance: Rs." + this.balance);
+    }
+
+    /**
+     * Deposit without console output — same rules as deposit().
+     * Used by ConcurrentAccountService: printing every operation would make
+     * all tellers queue up on System.out.
+     */
+    public void credit(double amount) {
         if (!isActive) {
             throw new IllegalStateException("Account #" + accountNumber + " is inactive. Operation denied.");
         }
@@ -62,17 +73,27 @@ public abstract class Account implements Serializable {
             throw new IllegalArgumentException("Deposit amount must be positive. Got: " + amount);
         }
         this.balance += amount;
-        System.out.println("Deposited Rs." + amount + " | New Balance: Rs." + this.balance);
     }
 
     /**
      * Withdraw money from the account.
-     * Base implementation checks for active status and positive amount.
-     * Subclasses override this to add specific rules (min balance, overdraft).
+     * The rules live in debit(); this adds the console output.
      *
      * @throws InsufficientFundsException if insufficient funds
      */
     public void withdraw(double amount) throws InsufficientFundsException {
+        debit(amount);
+        System.out.println("Withdrawn Rs." + amount + " | New Balance: Rs." + this.balance);
+    }
+
+    /**
+     * Withdraw without console output.
+     * Base implementation checks for active status, positive amount and balance.
+     * Subclasses override this to add specific rules (min balance, overdraft).
+     *
+     * @throws InsufficientFundsException if insufficient funds
+     */
+    public void debit(double amount) throws InsufficientFundsException {
         if (!isActive) {
             throw new IllegalStateException("Account #" + accountNumber + " is inactive. Operation denied.");
         }
@@ -84,7 +105,6 @@ public abstract class Account implements Serializable {
                     "Insufficient funds. Available: Rs." + balance, amount, balance);
         }
         this.balance -= amount;
-        System.out.println("Withdrawn Rs." + amount + " | New Balance: Rs." + this.balance);
     }
 
     /**
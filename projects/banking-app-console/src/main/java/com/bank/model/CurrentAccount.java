@@ -7,7 +7,7 @@ import com.bank.exception.InsufficientFundsException;
  *
  * Key concepts demonstrated:
  * - Inheritance: extends Account, gets all common fields/methods
- * - Method overriding: withdraw() allows overdraft up to a limit
+ * - Method overriding: debit() (used by withdraw()) allows overdraft up to a limit
  * - Polymorphism: same withdraw() call, different behavior than SavingsAccount
  *
  * Business rules:
@@ -47,7 +47,23 @@ public class CurrentAccount extends Account {
     }
 
     /**
-     * Override withdraw to allow overdraft.
+     * Override withdraw to print the balance and warn about an overdraft.
+     * The overdraft limit itself is enforced in debit().
+     *
+     * @throws InsufficientFundsException if amount exceeds balance + overdraft limit
+     */
+    @Override
+    public void withdraw(double amount) throws InsufficientFundsException {
+        debit(amount);
+        System.out.println("Withdrawn Rs." + amount + " | Balance: Rs." + getBalance());
+        // Warn if account is now in overdraft (negative balance)
+        if (getBalance() < 0) {
+            System.out.println("WARNING: Account in overdraft by Rs." + Math.abs(getBalance()));
+        }
+    }
+
+    /**
+     * Override debit to allow overdraft.
      * Unlike SavingsAccount, CurrentAccount can go negative up to overdraftLimit.
      *
      * Example: balance=30000, overdraftLimit=10000
@@ -57,7 +73,7 @@ public class CurrentAccount extends Account {
      * @throws InsufficientFundsException if amount exceeds balance + overdraft limit
      */
     @Override
-    public void withdraw(double amount) throws InsufficientFundsException {
+    public void debit(double amount) throws InsufficientFundsException {
         if (!isActive()) {
             throw new IllegalStateException("Account #" + getAccountNumber() + " is inactive.");
         }
@@ -73,11 +89,6 @@ public class CurrentAccount extends Account {
                     getBalance());
         }
         setBalance(getBalance() - amount);
-        System.out.println("Withdrawn Rs." + amount + " | Balance: Rs." + getBalance());
-        // Warn if account is now in overdraft (negative balance)
-        if (getBalance() < 0) {
-            System.out.println("WARNING: Account in overdraft by Rs." + Math.abs(getBalance()));
-        }
     }
 
     /**
@@ -7,7 +7,7 @@ import com.bank.exception.InsufficientFundsException;
  *
  * Key concepts demonstrated:
  * - Inheritance: extends Account, inherits all fields and methods
- * - Method overriding: withdraw() enforces minimum balance rule
+ * - Method overriding: debit() (used by withdraw()) enforces minimum balance rule
  * - Polymorphism: can be referenced as Account type
  * - super keyword: calls parent constructor and methods
  *
@@ -54,7 +54,19 @@ public class SavingsAccount extends Account {
     }
 
     /**
-     * Override withdraw to enforce minimum balance rule.
+     * Override withdraw to print the savings-specific balance line.
+     * The minimum balance rule itself is enforced in debit().
+     *
+     * @throws InsufficientFundsException if withdrawal would breach minimum balance
+     */
+    @Override
+    public void withdraw(double amount) throws InsufficientFundsException {
+        debit(amount);
+        System.out.println("Withdrawn Rs." + amount + " | Balance: Rs." + getBalance());
+    }
+
+    /**
+     * Override debit to enforce minimum balance rule.
      *
      * @Override annotation tells the compiler we're intentionally overriding
      * a parent method. If we misspell the method name, the compiler catches it.
@@ -62,7 +74,7 @@ public class SavingsAccount extends Account {
      * @throws InsufficientFundsException if withdrawal would breach minimum balance
      */
     @Override
-    public void withdraw(double amount) throws InsufficientFundsException {
+    public void debit(double amount) throws InsufficientFundsException {
         if (!isActive()) {
             throw new IllegalStateException("Account #" + getAccountNumber() + " is inactive.");
         }
@@ -78,7 +90,6 @@ public class SavingsAccount extends Account {
                     getBalance());
         }
         setBalance(getBalance() - amount);
-        System.out.println("Withdrawn Rs." + amount + " | Balance: Rs." + getBalance());
     }
 
     /**
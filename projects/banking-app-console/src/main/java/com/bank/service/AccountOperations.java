@@ -0,0 +1,67 @@
+package com.bank.service;
+
+import com.bank.exception.AccountNotFoundException;
+import com.bank.exception.InsufficientFundsException;
+import com.bank.model.Account;
+
+import java.util.List;
+
+/**
+ * AccountOperations — what the console (and any other teller) can do with accounts,
+ * independent of how they are stored or locked.
+ *
+ * Key concepts demonstrated:
+ * - Programming to an interface: BankApp holds an AccountOperations, so the storage
+ *   behind it can change without touching the menu code
+ * - Implementations keep their own state; none inherits another's fields
+ *
+ * Implementations:
+ * - AccountService:           single teller, ArrayList + LongAccountMap
+ * - ConcurrentAccountService: many tellers, ConcurrentHashMap + striped locks
+ * - MappedAccountService:     single teller, records read on demand from a MappedAccountStore
+ */
+public interface AccountOperations {
+
+    // ==================== ACCOUNT CREATION ====================
+
+    Account createSavingsAccount(String holderName, double balance, double interestRate);
+
+    Account createCurrentAccount(String holderName, double balance, double overdraftLimit);
+
+    /**
+     * Add an existing Account object (e.g., loaded from file); duplicates are skipped.
+     */
+    void addAccount(Account account);
+
+    // ==================== ACCOUNT LOOKUP ====================
+
+    /**
+     * @throws AccountNotFoundException if no account exists with the given number
+     */
+    Account getByAccountNumber(long accountNumber) throws AccountNotFoundException;
+
+    /**
+     * @return A copy — changing the list does not change the accounts held
+     */
+    List<Account> getAllAccounts();
+
+    // ==================== DEPOSIT / WITHDRAW ====================
+
+    void deposit(long accountNumber, double amount) throws AccountNotFoundException;
+
+    void withdraw(long accountNumber, double amount) throws AccountNotFoundException, InsufficientFundsException;
+
+    // ==================== SEARCH OPERATIONS ====================
+
+    List<Account> searchByName(String keyword);
+
+    List<Account> filterByType(String type);
+
+    // ==================== DELETE / COUNT ====================
+
+    void deleteAccount(long accountNumber) throws AccountNotFoundException;
+
+    int getAccountCount();
+
+    void clearAll();
+}
@@ -5,35 +5,39 @@ import com.bank.exception.InsufficientFundsException;
 import com.bank.model.Account;
 import com.bank.model.CurrentAccount;
 import com.bank.model.SavingsAccount;
+import com.bank.util.LongAccountMap;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * AccountService manages all account operations in the banking system.
  *
  * Key concepts demonstrated:
  * - ArrayList for ordered storage (display all accounts, iterate)
- * - HashMap for O(1) lookup by account number (instant search)
+ * - LongAccountMap for O(1) lookup by account number (instant search)
  * - Both structures store references to the SAME Account objects
  * - Auto-generated account numbers starting from 1001
  * - Custom exceptions for business rule violations
  *
  * Day 4: Created with ArrayList + HashMap dual storage
  * Day 5: Enhanced with search and filter capabilities
+ * Performance: HashMap<Long, Account> replaced by LongAccountMap — primitive long keys,
+ *              no boxing or Entry node per account (matters at tens of millions of accounts)
  *
  * Why both List AND Map?
  * - List  -> for ordered display ("show all accounts")
  * - Map   -> for instant lookup ("find account #1001")
  * In a real application, a database handles both needs.
+ *
+ * The single-teller implementation of AccountOperations (see ConcurrentAccountService
+ * for the thread-safe one).
  */
-public class AccountService {
+public class AccountService implements AccountOperations {
 
     // Dual data structures for different access patterns
     private List<Account> accountList;           // ordered storage for display
-    private Map<Long, Account> accountMap;       // O(1) lookup by account number
+    private LongAccountMap accountMap;           // O(1) lookup by account number (no boxing)
 
     // Auto-incrementing account number generator
     private long nextAccountNumber = 1001;
@@ -43,7 +47,7 @@ public class AccountService {
      */
     public AccountService() {
         this.accountList = new ArrayList<>();
-        this.accountMap = new HashMap<>();
+        this.accountMap = new LongAccountMap();
     }
 
     // ==================== ACCOUNT CREATION ====================
@@ -56,6 +60,7 @@ public class AccountService {
      * @param interestRate Annual interest rate (e.g., 4.5 for 4.5%)
      * @return The created Account
      */
+    @Override
     public Account createSavingsAccount(String holderName, double balance, double interestRate) {
         long accNo = nextAccountNumber++;
         SavingsAccount account = new SavingsAccount(accNo, holderName, balance, interestRate);
@@ -73,6 +78,7 @@ public class AccountService {
      * @param overdraftLimit Maximum overdraft allowed
      * @return The created Account
      */
+    @Override
     public Account createCurrentAccount(String holderName, double balance, double overdraftLimit) {
         long accNo = nextAccountNumber++;
         CurrentAccount account = new CurrentAccount(accNo, holderName, balance, overdraftLimit);
@@ -88,6 +94,7 @@ public class AccountService {
      *
      * @param account The account to add
      */
+    @Override
     public void addAccount(Account account) {
         if (accountMap.containsKey(account.getAccountNumber())) {
             System.out.println("Account #" + account.getAccountNumber() + " already exists.");
@@ -106,12 +113,13 @@ public class AccountService {
 
     /**
      * Find an account by its account number.
-     * Uses HashMap for O(1) constant-time lookup.
+     * Uses LongAccountMap for O(1) constant-time lookup.
      *
      * @param accountNumber The account number to search for
      * @return The Account object
      * @throws AccountNotFoundException if no account exists with the given number
      */
+    @Override
     public Account getByAccountNumber(long accountNumber) throws AccountNotFoundException {
         Account account = accountMap.get(accountNumber);   // O(1) lookup
         if (account == null) {
@@ -125,6 +133,7 @@ public class AccountService {
      *
      * @return List of all accounts
      */
+    @Override
     public List<Account> getAllAccounts() {
         return new ArrayList<>(accountList);   // return a copy to prevent external modification
     }
@@ -138,6 +147,7 @@ public class AccountService {
      * @param amount        The amount to deposit
      * @throws AccountNotFoundException if account doesn't exist
      */
+    @Override
     public void deposit(long accountNumber, double amount) throws AccountNotFoundException {
         Account account = getByAccountNumber(accountNumber);
         account.deposit(amount);
@@ -151,6 +161,7 @@ public class AccountService {
      * @throws AccountNotFoundException    if account doesn't exist
      * @throws InsufficientFundsException  if insufficient balance
      */
+    @Override
     public void withdraw(long accountNumber, double amount)
             throws AccountNotFoundException, InsufficientFundsException {
         Account account = getByAccountNumber(accountNumber);
@@ -166,6 +177,7 @@ public class AccountService {
      * @param keyword The name (or part of name) to search for
      * @return List of matching accounts
      */
+    @Override
     public List<Account> searchByName(String keyword) {
         List<Account> results = new ArrayList<>();
         String lowerKeyword = keyword.toLowerCase();
@@ -185,6 +197,7 @@ public class AccountService {
      * @param type "SAVINGS" or "CURRENT"
      * @return List of accounts matching the type
      */
+    @Override
     public List<Account> filterByType(String type) {
         List<Account> results = new ArrayList<>();
         for (Account acc : accountList) {
@@ -206,6 +219,7 @@ public class AccountService {
      * @param accountNumber The account number to remove
      * @throws AccountNotFoundException if account doesn't exist
      */
+    @Override
     public void deleteAccount(long accountNumber) throws AccountNotFoundException {
         Account account = accountMap.remove(accountNumber);
         if (account == null) {
@@ -220,6 +234,7 @@ public class AccountService {
      *
      * @return Account count
      */
+    @Override
     public int getAccountCount() {
         return accountList.size();
     }
@@ -227,6 +242,7 @@ public class AccountService {
     /**
      * Clear all accounts (used when loading from file to avoid duplicates).
      */
+    @Override
     public void clearAll() {
         accountList.clear();
         accountMap.clear();
@@ -0,0 +1,302 @@
+package com.bank.service;
+
+import com.bank.exception.AccountNotFoundException;
+import com.bank.exception.InsufficientFundsException;
+import com.bank.model.Account;
+import com.bank.model.CurrentAccount;
+import com.bank.model.SavingsAccount;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * ConcurrentAccountService — the thread-safe implementation of AccountOperations, for many
+ * tellers sharing one process. Same operations as AccountService, safe to call from any number
+ * of threads. It holds all of its own state — nothing is inherited from AccountService.
+ *
+ * Key concepts demonstrated:
+ * - ConcurrentHashMap: lookups never block, inserts/removes lock only one bin
+ * - AtomicLong: account numbers are handed out with one compare-and-set, never twice
+ * - Lock striping: one StampedLock per stripe of account numbers, so tellers working on
+ *   different accounts rarely wait for each other (and memory stays fixed — no lock per account)
+ * - Optimistic reads: getBalance() reads without locking and only retries under a read lock
+ *   if a writer got in between
+ * - Lock ordering: transfer() takes its two stripes in index order, so two opposite
+ *   transfers can never deadlock
+ *
+ * Every balance change happens under the account's stripe write lock and goes through the
+ * silent Account.credit()/debit() (same rules as deposit()/withdraw(), no console output).
+ * The plain AccountService stays the single-teller version used by the console menu.
+ *
+ * Stress harness: com.bank.StressHarness
+ */
+public class ConcurrentAccountService implements AccountOperations {
+
+    // Default number of lock stripes — a power of two well above the number of tellers
+    private static final int DEFAULT_STRIPES = 256;
+
+    private final ConcurrentHashMap<Long, Account> accountMap = new ConcurrentHashMap<>();
+    private final AtomicLong nextAccountNumber = new AtomicLong(1001);
+    private final StampedLock[] stripes;
+    private final int stripeMask;
+
+    public ConcurrentAccountService() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes Number of lock stripes (rounded up to a power of two)
+     */
+    public ConcurrentAccountService(int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new StampedLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new StampedLock();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    // ==================== ACCOUNT CREATION ====================
+
+    @Override
+    public Account createSavingsAccount(String holderName, double balance, double interestRate) {
+        long accNo = nextAccountNumber.getAndIncrement();
+        SavingsAccount account = new SavingsAccount(accNo, holderName, balance, interestRate);
+        accountMap.put(accNo, account);
+        System.out.println("Savings Account created: #" + accNo + " for " + holderName);
+        return account;
+    }
+
+    @Override
+    public Account createCurrentAccount(String holderName, double balance, double overdraftLimit) {
+        long accNo = nextAccountNumber.getAndIncrement();
+        CurrentAccount account = new CurrentAccount(accNo, holderName, balance, overdraftLimit);
+        accountMap.put(accNo, account);
+        System.out.println("Current Account created: #" + accNo + " for " + holderName);
+        return account;
+    }
+
+    /**
+     * Add an existing Account object (e.g., loaded from file).
+     * putIfAbsent makes the duplicate check and the insert one atomic step.
+     */
+    @Override
+    public void addAccount(Account account) {
+        if (accountMap.putIfAbsent(account.getAccountNumber(), account) != null) {
+            System.out.println("Account #" + account.getAccountNumber() + " already exists.");
+            return;
+        }
+        // Keep nextAccountNumber ahead of all existing account numbers
+        nextAccountNumber.accumulateAndGet(account.getAccountNumber() + 1, Math::max);
+    }
+
+    // ==================== ACCOUNT LOOKUP ====================
+
+    @Override
+    public Account getByAccountNumber(long accountNumber) throws AccountNotFoundException {
+        Account account = accountMap.get(accountNumber);   // lock-free lookup
+        if (account == null) {
+            throw new AccountNotFoundException(accountNumber);
+        }
+        return account;
+    }
+
+    /**
+     * Read one account's balance without taking a lock.
+     * The optimistic stamp is validated after the read; only if a deposit or withdrawal
+     * on the same stripe got in between is the read repeated under a read lock.
+     *
+     * @param accountNumber The account to read
+     * @return The account's current balance
+     * @throws AccountNotFoundException if account doesn't exist
+     */
+    public double getBalance(long accountNumber) throws AccountNotFoundException {
+        Account account = getByAccountNumber(accountNumber);
+        StampedLock lock = stripeFor(accountNumber);
+
+        long stamp = lock.tryOptimisticRead();
+        double balance = account.getBalance();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                balance = account.getBalance();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return balance;
+    }
+
+    /**
+     * Sum of all balances as of one instant: every stripe is read-locked (in index order)
+     * before summing, so no deposit, withdrawal or half-done transfer is counted.
+     * Blocks all writers while it runs — meant for audits, not for every request.
+     *
+     * @return Total balance over all accounts
+     */
+    public double getTotalBalance() {
+        long[] stamps = new long[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            stamps[i] = stripes[i].readLock();
+        }
+        try {
+            double total = 0;
+            for (Account acc : accountMap.values()) {
+                total += acc.getBalance();
+            }
+            return total;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlockRead(stamps[i]);
+            }
+        }
+    }
+
+    /**
+     * All accounts ordered by account number (a snapshot — safe to iterate
+     * while other tellers keep working).
+     */
+    @Override
+    public List<Account> getAllAccounts() {
+        List<Account> accounts = new ArrayList<>(accountMap.values());
+        accounts.sort(Comparator.comparingLong(Account::getAccountNumber));
+        return accounts;
+    }
+
+    // ==================== DEPOSIT / WITHDRAW / TRANSFER ====================
+
+    @Override
+    public void deposit(long accountNumber, double amount) throws AccountNotFoundException {
+        StampedLock lock = stripeFor(accountNumber);
+        long stamp = lock.writeLock();
+        try {
+            getByAccountNumber(accountNumber).credit(amount);   // looked up under the lock — not deleted meanwhile
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void withdraw(long accountNumber, double amount)
+            throws AccountNotFoundException, InsufficientFundsException {
+        StampedLock lock = stripeFor(accountNumber);
+        long stamp = lock.writeLock();
+        try {
+            getByAccountNumber(accountNumber).debit(amount);   // looked up under the lock — not deleted meanwhile
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Move money between two accounts as one step — no other teller can see
+     * the money withdrawn from one account but not yet deposited into the other.
+     *
+     * @throws AccountNotFoundException    if either account doesn't exist
+     * @throws InsufficientFundsException  if the source account can't cover it (nothing is moved)
+     */
+    public void transfer(long fromAccountNumber, long toAccountNumber, double amount)
+            throws AccountNotFoundException, InsufficientFundsException {
+        if (fromAccountNumber == toAccountNumber) {
+            throw new IllegalArgumentException("Cannot transfer to the same account #" + fromAccountNumber);
+        }
+        // Always lock the lower stripe first — two opposite transfers then wait instead of deadlocking
+        int a = stripeIndex(fromAccountNumber);
+        int b = stripeIndex(toAccountNumber);
+        StampedLock first = stripes[Math.min(a, b)];
+        StampedLock second = stripes[Math.max(a, b)];
+        long firstStamp = first.writeLock();
+        long secondStamp = a == b ? 0 : second.writeLock();
+        try {
+            Account from = getByAccountNumber(fromAccountNumber);
+            Account to = getByAccountNumber(toAccountNumber);
+            if (!to.isActive()) {
+                throw new IllegalStateException("Account #" + toAccountNumber + " is inactive. Operation denied.");
+            }
+            from.debit(amount);   // checks the rules before anything moves
+            to.credit(amount);
+        } finally {
+            if (a != b) second.unlockWrite(secondStamp);
+            first.unlockWrite(firstStamp);
+        }
+    }
+
+    // ==================== SEARCH OPERATIONS ====================
+
+    @Override
+    public List<Account> searchByName(String keyword) {
+        List<Account> results = new ArrayList<>();
+        String lowerKeyword = keyword.toLowerCase();
+
+        for (Account acc : getAllAccounts()) {
+            if (acc.getHolderName().toLowerCase().contains(lowerKeyword)) {
+                results.add(acc);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public List<Account> filterByType(String type) {
+        List<Account> results = new ArrayList<>();
+        for (Account acc : getAllAccounts()) {
+            if (type.equalsIgnoreCase("SAVINGS") && acc instanceof SavingsAccount) {
+                results.add(acc);
+            } else if (type.equalsIgnoreCase("CURRENT") && acc instanceof CurrentAccount) {
+                results.add(acc);
+            }
+        }
+        return results;
+    }
+
+    // ==================== DELETE / COUNT ====================
+
+    /**
+     * Delete an account by account number.
+     * Taken under the stripe lock, so no deposit or withdrawal is halfway through it.
+     */
+    @Override
+    public void deleteAccount(long accountNumber) throws AccountNotFoundException {
+        StampedLock lock = stripeFor(accountNumber);
+        long stamp = lock.writeLock();
+        Account account;
+        try {
+            account = accountMap.remove(accountNumber);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        if (account == null) {
+            throw new AccountNotFoundException(accountNumber);
+        }
+        System.out.println("Account #" + accountNumber + " (" + account.getHolderName() + ") removed.");
+    }
+
+    @Override
+    public int getAccountCount() {
+        return accountMap.size();
+    }
+
+    @Override
+    public void clearAll() {
+        accountMap.clear();
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private StampedLock stripeFor(long accountNumber) {
+        return stripes[stripeIndex(accountNumber)];
+    }
+
+    /**
+     * Spread the account number's bits before masking — consecutive account numbers
+     * land on different stripes, and so do numbers that differ only in high bits.
+     */
+    private int stripeIndex(long accountNumber) {
+        long h = accountNumber * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & stripeMask;
+    }
+}
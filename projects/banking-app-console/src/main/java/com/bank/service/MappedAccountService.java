@@ -0,0 +1,207 @@
+package com.bank.service;
+
+import com.bank.exception.AccountNotFoundException;
+import com.bank.exception.InsufficientFundsException;
+import com.bank.model.Account;
+import com.bank.model.CurrentAccount;
+import com.bank.model.SavingsAccount;
+import com.bank.util.LongAccountMap;
+import com.bank.util.MappedAccountStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MappedAccountService — accounts served straight from a MappedAccountStore.
+ *
+ * Key concepts demonstrated:
+ * - Lazy loading: opening the store builds only its slot index; an Account object is
+ *   created the first time its number is looked up, not for every record at startup
+ * - LongAccountMap as an identity map: each account looked up this session is kept,
+ *   so the console (and undo) keep changing the same object
+ * - Write-through: a deposit or withdrawal updates the 8-byte balance in place
+ *
+ * Listing, searching and filtering still visit every record — each one is decoded into
+ * a short-lived Account and only the matches are kept. Those need a scan whatever the storage;
+ * lookups, deposits and withdrawals do not.
+ *
+ * The store is owned by the caller (BankApp closes it); not thread-safe, like the store.
+ */
+public class MappedAccountService implements AccountOperations {
+
+    private final MappedAccountStore store;
+    private final LongAccountMap loaded;         // accounts looked up so far, by number
+
+    private long nextAccountNumber;
+
+    /**
+     * @param store An open store — its accounts become this service's accounts
+     */
+    public MappedAccountService(MappedAccountStore store) {
+        this.store = store;
+        this.loaded = new LongAccountMap();
+        this.nextAccountNumber = Math.max(1001, store.maxAccountNumber() + 1);
+    }
+
+    // ==================== ACCOUNT CREATION ====================
+
+    /**
+     * @throws IllegalArgumentException if the holder name doesn't fit a store record
+     * @throws UncheckedIOException if the store file can't grow
+     */
+    @Override
+    public Account createSavingsAccount(String holderName, double balance, double interestRate) {
+        long accNo = nextAccountNumber;
+        SavingsAccount account = new SavingsAccount(accNo, holderName, balance, interestRate);
+        store(account);
+        nextAccountNumber++;   // only once the record is written
+        System.out.println("Savings Account created: #" + accNo + " for " + holderName);
+        return account;
+    }
+
+    @Override
+    public Account createCurrentAccount(String holderName, double balance, double overdraftLimit) {
+        long accNo = nextAccountNumber;
+        CurrentAccount account = new CurrentAccount(accNo, holderName, balance, overdraftLimit);
+        store(account);
+        nextAccountNumber++;
+        System.out.println("Current Account created: #" + accNo + " for " + holderName);
+        return account;
+    }
+
+    @Override
+    public void addAccount(Account account) {
+        if (store.contains(account.getAccountNumber())) {
+            System.out.println("Account #" + account.getAccountNumber() + " already exists.");
+            return;
+        }
+        store(account);
+
+        // Keep nextAccountNumber ahead of all existing account numbers
+        if (account.getAccountNumber() >= nextAccountNumber) {
+            nextAccountNumber = account.getAccountNumber() + 1;
+        }
+    }
+
+    // ==================== ACCOUNT LOOKUP ====================
+
+    /**
+     * Find an account by its account number — O(1): the identity map, else one record
+     * read through the store's slot index.
+     */
+    @Override
+    public Account getByAccountNumber(long accountNumber) throws AccountNotFoundException {
+        Account account = loaded.get(accountNumber);
+        if (account == null) {
+            account = store.get(accountNumber);
+            if (account == null) {
+                throw new AccountNotFoundException(accountNumber);
+            }
+            loaded.put(accountNumber, account);
+        }
+        return account;
+    }
+
+    /**
+     * @return Every account in slot order — decoded from the store on each call
+     */
+    @Override
+    public List<Account> getAllAccounts() {
+        List<Account> results = new ArrayList<>(store.size());
+        store.forEach(acc -> results.add(current(acc)));
+        return results;
+    }
+
+    // ==================== DEPOSIT / WITHDRAW ====================
+
+    @Override
+    public void deposit(long accountNumber, double amount) throws AccountNotFoundException {
+        Account account = getByAccountNumber(accountNumber);
+        account.deposit(amount);
+        store.updateBalance(accountNumber, account.getBalance());
+    }
+
+    @Override
+    public void withdraw(long accountNumber, double amount)
+            throws AccountNotFoundException, InsufficientFundsException {
+        Account account = getByAccountNumber(accountNumber);
+        account.withdraw(amount);
+        store.updateBalance(accountNumber, account.getBalance());
+    }
+
+    // ==================== SEARCH OPERATIONS ====================
+
+    @Override
+    public List<Account> searchByName(String keyword) {
+        List<Account> results = new ArrayList<>();
+        String lowerKeyword = keyword.toLowerCase();
+
+        store.forEach(acc -> {
+            if (acc.getHolderName().toLowerCase().contains(lowerKeyword)) {
+                results.add(current(acc));
+            }
+        });
+        return results;
+    }
+
+    @Override
+    public List<Account> filterByType(String type) {
+        List<Account> results = new ArrayList<>();
+        store.forEach(acc -> {
+            if (type.equalsIgnoreCase("SAVINGS") && acc instanceof SavingsAccount) {
+                results.add(current(acc));
+            } else if (type.equalsIgnoreCase("CURRENT") && acc instanceof CurrentAccount) {
+                results.add(current(acc));
+            }
+        });
+        return results;
+    }
+
+    // ==================== DELETE / COUNT ====================
+
+    @Override
+    public void deleteAccount(long accountNumber) throws AccountNotFoundException {
+        Account account = getByAccountNumber(accountNumber);
+        store.delete(accountNumber);
+        loaded.remove(accountNumber);
+        System.out.println("Account #" + accountNumber + " (" + account.getHolderName() + ") removed.");
+    }
+
+    @Override
+    public int getAccountCount() {
+        return store.size();
+    }
+
+    /**
+     * Delete every account from the store (the file keeps its slots until migrated).
+     */
+    @Override
+    public void clearAll() {
+        List<Long> numbers = new ArrayList<>(store.size());
+        store.forEach(acc -> numbers.add(acc.getAccountNumber()));
+        for (long accountNumber : numbers) {
+            store.delete(accountNumber);
+        }
+        loaded.clear();
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private void store(Account account) {
+        try {
+            store.put(account);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing account #" + account.getAccountNumber()
+                    + " to the mapped store", e);
+        }
+        loaded.put(account.getAccountNumber(), account);
+    }
+
+    // The object already handed out for this account, if any — otherwise the one just decoded
+    private Account current(Account decoded) {
+        Account account = loaded.get(decoded.getAccountNumber());
+        return account != null ? account : decoded;
+    }
+}
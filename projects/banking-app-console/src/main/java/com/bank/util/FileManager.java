@@ -10,7 +10,7 @@ import java.util.List;
 
 /**
  * FileManager provides static utility methods for saving and loading accounts
- * using two approaches:
+ * using three approaches:
  *
  * 1. CSV (Comma-Separated Values) — human-readable text format
  *    - Uses BufferedWriter / BufferedReader (character streams)
@@ -22,6 +22,11 @@ import java.util.List;
  *    - One line to save/load entire object graphs
  *    - Java-only, not human-readable
  *
+ * 3. Memory-mapped store — fixed-width binary records (see MappedAccountStore)
+ *    - Uses FileChannel.map: the file is accessed like memory
+ *    - Stays open: a deposit updates one 8-byte balance in place, no rewrite
+ *    - Opening maps the file and indexes account numbers — nothing is deserialized
+ *
  * Key concepts demonstrated:
  * - try-with-resources: automatically closes streams (no need for finally block)
  * - Buffered streams: efficient I/O with internal buffer (8KB default)
@@ -30,13 +35,14 @@ import java.util.List;
  *
  * Day 7: Created for file persistence
  *
- * CSV vs Serialization:
- * | Feature          | CSV                    | Serialization           |
- * |-----------------|------------------------|------------------------|
- * | Human-readable? | Yes                    | No (binary)            |
- * | Cross-language? | Yes                    | No (Java only)         |
- * | Code complexity | Manual parsing         | One line               |
- * | Best for        | Reports, data exchange | Quick Java persistence |
+ * CSV vs Serialization vs Memory-mapped store:
+ * | Feature          | CSV                    | Serialization           | Mapped store              |
+ * |-----------------|------------------------|------------------------|---------------------------|
+ * | Human-readable? | Yes                    | No (binary)            | No (binary)               |
+ * | Cross-language? | Yes                    | No (Java only)         | Yes (documented layout)   |
+ * | Code complexity | Manual parsing         | One line               | Record offsets            |
+ * | One deposit     | Rewrite whole file     | Rewrite whole file     | 8 bytes in place          |
+ * | Best for        | Reports, data exchange | Quick Java persistence | Large, frequently updated |
  */
 public class FileManager {
 
@@ -195,8 +201,79 @@ public class FileManager {
         }
     }
 
+    // ==================== MEMORY-MAPPED STORE OPERATIONS ====================
+
+    /**
+     * Save accounts into a new memory-mapped store, replacing any existing store file.
+     *
+     * The store is returned still open: keep it and call updateBalance() after each
+     * deposit or withdrawal instead of saving everything again.
+     *
+     * @param accounts List of accounts to save
+     * @param filePath Path to the store file (e.g., "data/accounts.store")
+     * @return The open store, or null if it couldn't be written
+     */
+    public static MappedAccountStore saveAccountsMapped(List<Account> accounts, String filePath) {
+        ensureDirectoryExists(filePath);
+        new File(filePath).delete();   // start from an empty store
+
+        MappedAccountStore store = null;
+        try {
+            store = MappedAccountStore.open(filePath);
+            for (Account acc : accounts) {
+                store.put(acc);
+            }
+            store.flush();
+            System.out.println("Saved " + accounts.size() + " accounts to mapped store " + filePath);
+            return store;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Error saving mapped store: " + e.getMessage());
+            closeQuietly(store);
+            return null;
+        }
+    }
+
+    /**
+     * Open an existing memory-mapped store.
+     *
+     * Only the file header and the account numbers are read here; use
+     * store.forEach() / store.get() to materialize Account objects.
+     *
+     * @param filePath Path to the store file
+     * @return The open store, or null if there is no store or it can't be opened
+     */
+    public static MappedAccountStore openAccountStore(String filePath) {
+        if (!new File(filePath).exists()) {
+            System.out.println("No mapped store found at " + filePath);
+            return null;
+        }
+
+        try {
+            MappedAccountStore store = MappedAccountStore.open(filePath);
+            System.out.println("Mapped " + store.size() + " accounts from " + filePath);
+            return store;
+        } catch (IOException e) {
+            System.out.println("Error opening mapped store: " + e.getMessage());
+            return null;
+        }
+    }
+
     // ==================== HELPER METHODS ====================
 
+    /**
+     * Close a store after a failed operation, ignoring a second failure.
+     *
+     * @param store The store to close (may be null)
+     */
+    private static void closeQuietly(MappedAccountStore store) {
+        if (store == null) return;
+        try {
+            store.close();
+        } catch (IOException ignored) {
+            // already reporting the original error
+        }
+    }
+
     /**
      * Ensure the parent directory of the given file path exists.
      * Creates it (and any necessary parent directories) if it doesn't.
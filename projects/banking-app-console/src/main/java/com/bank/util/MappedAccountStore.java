@@ -0,0 +1,450 @@
+package com.bank.util;
+
+import com.bank.model.Account;
+import com.bank.model.CurrentAccount;
+import com.bank.model.SavingsAccount;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * MappedAccountStore — accounts in a memory-mapped binary file of fixed-width records.
+ *
+ * Key concepts demonstrated:
+ * - Memory-mapped I/O: the file is mapped into memory (FileChannel.map), so reading or
+ *   writing a record is a plain memory access — the OS pages data in and writes it back.
+ * - Fixed-width records: record N always starts at byte (N + 1) * 128, so any account can be
+ *   reached in O(1) once its slot is known, and a balance is updated in place (8 bytes)
+ *   instead of rewriting the whole file like serializeAccounts() does.
+ * - Slot index: account number -> slot, an open-addressing table of primitives
+ *   (same technique as LongAccountMap), rebuilt at open by scanning the record headers.
+ *   Opening 10M accounts maps ~1.3 GB and reads 10M longs — no objects are deserialized.
+ *
+ * File layout (all numbers big-endian, ByteBuffer default):
+ *   Header (first 128 bytes): magic "BANKACC1", format version, record size, records used
+ *   Record (128 bytes):
+ *     0  long   accountNumber
+ *     8  double balance
+ *    16  double interestRate (SAVINGS) or overdraftLimit (CURRENT)
+ *    24  byte   status: 0 = free/deleted, 1 = active, 2 = inactive
+ *    25  byte   type: 'S' = SAVINGS, 'C' = CURRENT
+ *    26  short  holder name length in bytes
+ *    28  byte[100] holder name (UTF-8)
+ *
+ * The file is mapped in segments of up to 1 GB (a MappedByteBuffer is limited to 2 GB);
+ * the last segment is re-mapped larger as accounts are appended. Deleted records keep their
+ * slot — migrating into a new store (StoreMigration) compacts them away.
+ * Not thread-safe: one writer at a time, like the rest of FileManager.
+ *
+ * Migration from .dat / CSV files: com.bank.StoreMigration
+ */
+public class MappedAccountStore implements Closeable {
+
+    public static final int RECORD_SIZE = 128;
+    public static final int MAX_NAME_BYTES = 100;
+
+    private static final long MAGIC = 0x42414E4B41434331L;   // "BANKACC1"
+    private static final int VERSION = 1;
+
+    // Record field offsets
+    private static final int ACCOUNT_NUMBER = 0;
+    private static final int BALANCE = 8;
+    private static final int RATE_OR_LIMIT = 16;
+    private static final int STATUS = 24;
+    private static final int TYPE = 25;
+    private static final int NAME_LENGTH = 26;
+    private static final int NAME = 28;
+
+    // Header field offsets
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 8;
+    private static final int HEADER_RECORD_SIZE = 12;
+    private static final int HEADER_RECORDS_USED = 16;
+
+    private static final byte FREE = 0;
+    private static final byte ACTIVE = 1;
+    private static final byte INACTIVE = 2;
+
+    // Segments: 2^23 records of 128 bytes = 1 GB each; grown 1 MB at a time, doubling
+    private static final int SEGMENT_SHIFT = 23;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    private static final long SEGMENT_BYTES = (1L << SEGMENT_SHIFT) * RECORD_SIZE;
+    private static final long MIN_MAP_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final SlotIndex index;
+    private long recordsUsed;   // slots handed out so far, including deleted ones
+    private int size;           // live accounts
+    private long maxAccountNumber;   // highest number ever stored, deleted ones included
+
+    private MappedAccountStore(FileChannel channel) {
+        this.channel = channel;
+        this.index = new SlotIndex();
+    }
+
+    // ==================== OPEN / CLOSE ====================
+
+    /**
+     * Open a store, creating an empty one if the file doesn't exist.
+     * Existing records are mapped, not read into objects — only the slot index is rebuilt.
+     *
+     * @param filePath Path to the store file (e.g., "data/accounts.store")
+     * @return The open store
+     * @throws IOException if the file can't be opened or isn't an account store
+     */
+    public static MappedAccountStore open(String filePath) throws IOException {
+        FileChannel channel = FileChannel.open(Path.of(filePath),
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        MappedAccountStore store = new MappedAccountStore(channel);
+        try {
+            store.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Write all mapped changes to disk. Changes reach the file (via the OS) even without
+     * this — force() only makes them survive a power failure as well.
+     */
+    public void flush() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        segments.clear();
+        channel.close();
+    }
+
+    // ==================== READ ====================
+
+    /**
+     * @return Number of accounts in the store
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The highest account number the store has held (0 if none) — deleted
+     *         accounts count too, so a new number never reuses an old one
+     */
+    public long maxAccountNumber() {
+        return maxAccountNumber;
+    }
+
+    public boolean contains(long accountNumber) {
+        return index.get(accountNumber) >= 0;
+    }
+
+    /**
+     * Read one account as an Account object — O(1): index lookup, then one record.
+     *
+     * @return The account, or null if the store has no account with this number
+     */
+    public Account get(long accountNumber) {
+        long slot = index.get(accountNumber);
+        return slot < 0 ? null : readAccount(slot);
+    }
+
+    /**
+     * Read one account's balance straight from its record, without building an Account.
+     *
+     * @throws IllegalArgumentException if the store has no account with this number
+     */
+    public double getBalance(long accountNumber) {
+        long slot = requireSlot(accountNumber);
+        return segment(slot).getDouble(offset(slot) + BALANCE);
+    }
+
+    /**
+     * Visit every account in slot order (the order they were added).
+     */
+    public void forEach(Consumer<Account> action) {
+        for (long slot = 0; slot < recordsUsed; slot++) {
+            if (segment(slot).get(offset(slot) + STATUS) != FREE) {
+                action.accept(readAccount(slot));
+            }
+        }
+    }
+
+    /**
+     * @return All accounts in slot order
+     */
+    public List<Account> loadAll() {
+        List<Account> accounts = new ArrayList<>(size);
+        forEach(accounts::add);
+        return accounts;
+    }
+
+    // ==================== WRITE ====================
+
+    /**
+     * Add an account, or overwrite its record if the account number is already stored.
+     *
+     * @throws IllegalArgumentException if the holder name is longer than MAX_NAME_BYTES in UTF-8
+     * @throws IOException if the file can't grow
+     */
+    public void put(Account account) throws IOException {
+        byte[] name = account.getHolderName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Holder name of account #" + account.getAccountNumber()
+                    + " is " + name.length + " bytes — the store allows " + MAX_NAME_BYTES + ".");
+        }
+
+        long slot = index.get(account.getAccountNumber());
+        boolean added = slot < 0;
+        if (added) {
+            slot = recordsUsed;
+            ensureMapped(slot);
+        }
+
+        MappedByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+        segment.putLong(offset + ACCOUNT_NUMBER, account.getAccountNumber());
+        segment.putDouble(offset + BALANCE, account.getBalance());
+        if (account instanceof SavingsAccount) {
+            segment.putDouble(offset + RATE_OR_LIMIT, ((SavingsAccount) account).getInterestRate());
+            segment.put(offset + TYPE, (byte) 'S');
+        } else {
+            segment.putDouble(offset + RATE_OR_LIMIT, ((CurrentAccount) account).getOverdraftLimit());
+            segment.put(offset + TYPE, (byte) 'C');
+        }
+        segment.putShort(offset + NAME_LENGTH, (short) name.length);
+        segment.put(offset + NAME, name);
+        segment.put(offset + STATUS, account.isActive() ? ACTIVE : INACTIVE);   // written last: the record is now valid
+
+        if (added) {
+            recordsUsed++;
+            header().putLong(HEADER_RECORDS_USED, recordsUsed);
+            index.put(account.getAccountNumber(), slot);
+            size++;
+            maxAccountNumber = Math.max(maxAccountNumber, account.getAccountNumber());
+        }
+    }
+
+    /**
+     * Update one balance in place — writes 8 bytes, whatever the size of the store.
+     *
+     * @throws IllegalArgumentException if the store has no account with this number
+     */
+    public void updateBalance(long accountNumber, double balance) {
+        long slot = requireSlot(accountNumber);
+        segment(slot).putDouble(offset(slot) + BALANCE, balance);
+    }
+
+    /**
+     * Mark an account's record as free. Its slot is not reused.
+     *
+     * @return true if the account was in the store
+     */
+    public boolean delete(long accountNumber) {
+        long slot = index.get(accountNumber);
+        if (slot < 0) {
+            return false;
+        }
+        segment(slot).put(offset(slot) + STATUS, FREE);
+        index.remove(accountNumber);
+        size--;
+        return true;
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    // Map what the file already holds (or write a fresh header) and rebuild the slot index
+    private void load() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize == 0) {
+            ensureMapped(-1);   // the header
+            MappedByteBuffer header = header();
+            header.putLong(HEADER_MAGIC, MAGIC);
+            header.putInt(HEADER_VERSION, VERSION);
+            header.putInt(HEADER_RECORD_SIZE, RECORD_SIZE);
+            header.putLong(HEADER_RECORDS_USED, 0);
+            return;
+        }
+
+        for (long start = 0; start < fileSize; start += SEGMENT_BYTES) {
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(SEGMENT_BYTES, fileSize - start)));
+        }
+        MappedByteBuffer header = header();
+        if (header.getLong(HEADER_MAGIC) != MAGIC || header.getInt(HEADER_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IOException("Not an account store (or a different record layout)");
+        }
+        if (header.getInt(HEADER_VERSION) != VERSION) {
+            throw new IOException("Unsupported account store version " + header.getInt(HEADER_VERSION));
+        }
+
+        recordsUsed = header.getLong(HEADER_RECORDS_USED);
+        for (long slot = 0; slot < recordsUsed; slot++) {
+            MappedByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            long accountNumber = segment.getLong(offset + ACCOUNT_NUMBER);
+            maxAccountNumber = Math.max(maxAccountNumber, accountNumber);
+            if (segment.get(offset + STATUS) != FREE) {
+                index.put(accountNumber, slot);
+                size++;
+            }
+        }
+    }
+
+    private Account readAccount(long slot) {
+        MappedByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+        long accountNumber = segment.getLong(offset + ACCOUNT_NUMBER);
+        double balance = segment.getDouble(offset + BALANCE);
+        double rateOrLimit = segment.getDouble(offset + RATE_OR_LIMIT);
+        byte[] name = new byte[segment.getShort(offset + NAME_LENGTH)];
+        segment.get(offset + NAME, name);
+        String holderName = new String(name, StandardCharsets.UTF_8);
+
+        Account account = segment.get(offset + TYPE) == 'S'
+                ? new SavingsAccount(accountNumber, holderName, balance, rateOrLimit)
+                : new CurrentAccount(accountNumber, holderName, balance, rateOrLimit);
+        account.setActive(segment.get(offset + STATUS) == ACTIVE);
+        return account;
+    }
+
+    private long requireSlot(long accountNumber) {
+        long slot = index.get(accountNumber);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Account #" + accountNumber + " is not in the store.");
+        }
+        return slot;
+    }
+
+    // Records are numbered from 1 in the file — position 0 is the header
+    private MappedByteBuffer segment(long slot) {
+        return segments.get((int) ((slot + 1) >>> SEGMENT_SHIFT));
+    }
+
+    private static int offset(long slot) {
+        return (int) (((slot + 1) & SEGMENT_MASK) * RECORD_SIZE);
+    }
+
+    private MappedByteBuffer header() {
+        return segments.get(0);
+    }
+
+    /**
+     * Make sure the segment holding this slot is mapped far enough to include it.
+     * The file grows with the mapping: a segment is re-mapped at twice its size (1 MB minimum,
+     * 1 GB maximum) whenever a record lands past its end.
+     */
+    private void ensureMapped(long slot) throws IOException {
+        int seg = (int) ((slot + 1) >>> SEGMENT_SHIFT);
+        long needed = (((slot + 1) & SEGMENT_MASK) + 1) * RECORD_SIZE;
+        while (segments.size() <= seg) {
+            segments.add(null);
+        }
+        MappedByteBuffer current = segments.get(seg);
+        if (current != null && current.capacity() >= needed) {
+            return;
+        }
+        long mapSize = current == null ? MIN_MAP_BYTES : (long) current.capacity() * 2;
+        mapSize = Math.min(SEGMENT_BYTES, Math.max(needed, mapSize));
+        if (current != null) {
+            current.force();
+        }
+        segments.set(seg, channel.map(FileChannel.MapMode.READ_WRITE, seg * SEGMENT_BYTES, mapSize));
+    }
+
+    // ==================== SLOT INDEX ====================
+
+    /**
+     * Account number -> slot, open addressing over primitive arrays (linear probing,
+     * Fibonacci hashing, backward-shift deletion — see LongAccountMap).
+     */
+    private static final class SlotIndex {
+
+        private static final float LOAD_FACTOR = 0.75f;
+
+        private long[] keys = new long[1024];
+        private long[] slots = new long[1024];   // slot + 1; 0 = empty
+        private int mask = 1023;
+        private int size;
+
+        long get(long accountNumber) {
+            int i = home(accountNumber);
+            while (slots[i] != 0) {
+                if (keys[i] == accountNumber) {
+                    return slots[i] - 1;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        void put(long accountNumber, long slot) {
+            if (size >= keys.length * LOAD_FACTOR) {
+                grow();
+            }
+            int i = home(accountNumber);
+            while (slots[i] != 0 && keys[i] != accountNumber) {
+                i = (i + 1) & mask;
+            }
+            if (slots[i] == 0) {
+                size++;
+            }
+            keys[i] = accountNumber;
+            slots[i] = slot + 1;
+        }
+
+        void remove(long accountNumber) {
+            int gap = home(accountNumber);
+            while (slots[gap] != 0 && keys[gap] != accountNumber) {
+                gap = (gap + 1) & mask;
+            }
+            if (slots[gap] == 0) {
+                return;
+            }
+            int i = gap;
+            while (true) {
+                i = (i + 1) & mask;
+                if (slots[i] == 0) {
+                    break;
+                }
+                if (((i - home(keys[i])) & mask) >= ((i - gap) & mask)) {
+                    keys[gap] = keys[i];
+                    slots[gap] = slots[i];
+                    gap = i;
+                }
+            }
+            slots[gap] = 0;
+            size--;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldSlots = slots;
+            keys = new long[oldKeys.length * 2];
+            slots = new long[oldKeys.length * 2];
+            mask = keys.length - 1;
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldSlots[i] != 0) {
+                    put(oldKeys[i], oldSlots[i] - 1);
+                }
+            }
+        }
+
+        private int home(long accountNumber) {
+            return (int) ((accountNumber * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
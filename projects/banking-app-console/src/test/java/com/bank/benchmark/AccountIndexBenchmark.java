@@ -0,0 +1,98 @@
+package com.bank.benchmark;
+
+import com.bank.model.Account;
+import com.bank.model.SavingsAccount;
+import com.bank.util.LongAccountMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of the account-number index: HashMap<Long, Account> (what AccountService
+ * used before) versus LongAccountMap, both built the way AccountService builds them
+ * (default capacity, one put per account). Lookup time per get() of a random existing
+ * account, and bytes per entry of each index (the Account objects themselves excluded),
+ * printed once per trial.
+ *
+ * Run with: mvn test -Pjmh -Djmh.args=AccountIndexBenchmark
+ * 50M accounts: -Djmh.args="AccountIndexBenchmark -p size=50000000 -jvmArgsAppend -Xmx24g"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class AccountIndexBenchmark {
+
+    private static final long FIRST_ACCOUNT = 1001;
+    private static final int LOOKUPS = 1 << 16;    // pre-drawn keys, so the RNG is not measured
+
+    @Param({"10000", "1000000", "10000000"})
+    int size;
+
+    private Map<Long, Account> hashMap;
+    private LongAccountMap longMap;
+    private long[] keys;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Account[] accounts = new Account[size];
+        for (int i = 0; i < size; i++) {
+            accounts[i] = new SavingsAccount(FIRST_ACCOUNT + i, "Holder", 5_000);
+        }
+
+        long before = usedHeap();
+        hashMap = new HashMap<>();
+        for (Account acc : accounts) {
+            hashMap.put(acc.getAccountNumber(), acc);
+        }
+        long afterHashMap = usedHeap();
+        longMap = new LongAccountMap();
+        for (Account acc : accounts) {
+            longMap.put(acc.getAccountNumber(), acc);
+        }
+        long afterLongMap = usedHeap();
+        System.out.printf("%n%d accounts - HashMap<Long, Account>: %.1f bytes/entry, LongAccountMap: %.1f bytes/entry%n",
+                size, (afterHashMap - before) / (double) size, (afterLongMap - afterHashMap) / (double) size);
+
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            keys[i] = FIRST_ACCOUNT + random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Account hashMapGet(Cursor cursor) {
+        return hashMap.get(nextKey(cursor));    // boxes the key, then hash bin -> Node -> Account
+    }
+
+    @Benchmark
+    public Account longAccountMapGet(Cursor cursor) {
+        return longMap.get(nextKey(cursor));    // slot in long[], then Account[]
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private long nextKey(Cursor cursor) {
+        return keys[cursor.next++ & (LOOKUPS - 1)];
+    }
+
+    // Heap in use after the garbage from building is collected
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -1,23 +1,74 @@
 package com.bank;
 
+import com.bank.config.DataSeeder;
 import com.bank.config.DatabaseManager;
+import com.bank.service.AccountDeletionJob;
+import com.bank.service.AccountService;
+import com.bank.service.BalanceCheckpointJob;
+import com.bank.service.InterestAccrualJob;
+import com.bank.service.TransactionArchiver;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class BankingApplication {
 
+    private final DatabaseManager databaseManager;
+    private final DataSeeder dataSeeder;
+    private final AccountService accountService;
+    private final AccountDeletionJob accountDeletionJob;
+    private final TransactionArchiver transactionArchiver;
+    private final BalanceCheckpointJob balanceCheckpointJob;
+    private final InterestAccrualJob interestAccrualJob;
+    private final boolean virtualThreads;
+
+    public BankingApplication(DatabaseManager databaseManager, DataSeeder dataSeeder,
+                              AccountService accountService, AccountDeletionJob accountDeletionJob,
+                              TransactionArchiver transactionArchiver, BalanceCheckpointJob balanceCheckpointJob,
+                              InterestAccrualJob interestAccrualJob,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.databaseManager = databaseManager;
+        this.dataSeeder = dataSeeder;
+        this.accountService = accountService;
+        this.accountDeletionJob = accountDeletionJob;
+        this.transactionArchiver = transactionArchiver;
+        this.balanceCheckpointJob = balanceCheckpointJob;
+        this.interestAccrualJob = interestAccrualJob;
+        this.virtualThreads = virtualThreads;
+    }
+
     public static void main(String[] args) {
         SpringApplication.run(BankingApplication.class, args);
     }
 
     /**
-     * Initialize the H2 database with tables and sample data at startup.
+     * Initialize the H2 database with tables and sample data at startup,
+     * seed synthetic data if bank.seed.* asks for it, archive cold transaction partitions,
+     * load the holder-name search index, resume archival deletes that a shutdown interrupted
+     * and start the periodic balance checkpoints and monthly interest runs.
      * @PostConstruct runs after the Spring context is initialized.
      */
     @PostConstruct
     public void init() {
-        DatabaseManager.initializeDatabase();
+        long start = System.nanoTime();
+        databaseManager.initializeDatabase();
+        dataSeeder.seedIfConfigured();
+        transactionArchiver.archiveColdPartitions();
+        long indexStart = System.nanoTime();
+        accountService.rebuildSearchIndex();
+        long indexNanos = System.nanoTime() - indexStart;
+        accountDeletionJob.resumePending();
+        balanceCheckpointJob.schedule();
+        interestAccrualJob.schedule();
+        System.out.printf("Startup work done in %.1fs (search index %.1fs)%n",
+                (System.nanoTime() - start) / 1_000_000_000.0, indexNanos / 1_000_000_000.0);
+
+        boolean virtual = virtualThreads && Runtime.version().feature() >= 21;
+        System.out.println("Request threads: " + (virtual ? "virtual" : "platform"));
+        if (virtualThreads && !virtual) {
+            System.out.println("spring.threads.virtual.enabled ignored - needs JDK 21+, running on " + Runtime.version());
+        }
     }
 }
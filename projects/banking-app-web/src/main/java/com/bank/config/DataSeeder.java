@@ -0,0 +1,152 @@
+package com.bank.config;
+
+import com.bank.repository.TransactionPartitionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.time.YearMonth;
+
+/**
+ * Seeding mode for capacity tests: loads bank.seed.accounts accounts and
+ * bank.seed.transactions transactions from SyntheticDataGenerator (deterministic
+ * for a given bank.seed.random-seed) on top of the schema DatabaseManager created.
+ *
+ * Rows go in as JDBC batches of bank.seed.batch-size with one commit per batch.
+ * Account balances are computed up front (a dry run of the transaction stream), so
+ * each account is written once, already consistent with its journal; the running
+ * totals are rebuilt set-based at the end. Transactions are generated in time order, so they
+ * fill one monthly partition after another. Skipped when the data is already there.
+ */
+@Component
+public class DataSeeder {
+
+    private final DataSource dataSource;
+    private final TransactionPartitionRepository transactionPartitionRepository;
+    private final TransactionTotalsRepository transactionTotalsRepository;
+    private final int accounts;
+    private final long transactions;
+    private final long randomSeed;
+    private final double zipfExponent;
+    private final int batchSize;
+
+    public DataSeeder(DataSource dataSource,
+                      TransactionPartitionRepository transactionPartitionRepository,
+                      TransactionTotalsRepository transactionTotalsRepository,
+                      @Value("${bank.seed.accounts:0}") int accounts,
+                      @Value("${bank.seed.transactions:0}") long transactions,
+                      @Value("${bank.seed.random-seed:42}") long randomSeed,
+                      @Value("${bank.seed.zipf-exponent:1.1}") double zipfExponent,
+                      @Value("${bank.seed.batch-size:10000}") int batchSize) {
+        this.dataSource = dataSource;
+        this.transactionPartitionRepository = transactionPartitionRepository;
+        this.transactionTotalsRepository = transactionTotalsRepository;
+        this.accounts = accounts;
+        this.transactions = transactions;
+        this.randomSeed = randomSeed;
+        this.zipfExponent = zipfExponent;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Seeds the database when bank.seed.accounts > 0 and no seeded account exists yet.
+     * Called once at application startup, after DatabaseManager.initializeDatabase().
+     */
+    public void seedIfConfigured() {
+        if (accounts <= 0) return;
+
+        try (Connection conn = dataSource.getConnection()) {
+            if (alreadySeeded(conn)) {
+                System.out.println("Seed data already present - skipping seeding.");
+                return;
+            }
+
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(randomSeed, accounts, transactions, zipfExponent);
+            long start = System.nanoTime();
+            double[] balances = generator.finalBalances();
+
+            conn.setAutoCommit(false);
+            long accountRows = loadAccounts(conn, generator, balances);
+            long accountNanos = System.nanoTime() - start;
+            long transactionRows = loadTransactions(conn, generator);
+            conn.setAutoCommit(true);
+            transactionTotalsRepository.rebuild();
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("Seeded %d accounts and %d transactions in %.1fs (%.0f rows/sec, accounts %.1fs)%n",
+                    accountRows, transactionRows, seconds, (accountRows + transactionRows) / seconds,
+                    accountNanos / 1_000_000_000.0);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to seed database", e);
+        }
+    }
+
+    // ──── HELPERS ────
+
+    private boolean alreadySeeded(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT 1 FROM accounts WHERE account_number >= ? FETCH FIRST 1 ROWS ONLY")) {
+            ps.setLong(1, SyntheticDataGenerator.FIRST_ACCOUNT);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private long loadAccounts(Connection conn, SyntheticDataGenerator generator, double[] balances) throws Exception {
+        String sql = "INSERT INTO accounts (account_number, holder_name, account_type, balance) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            long[] rows = {0};
+            generator.forEachAccount(balances, (accountNumber, holderName, accountType, balance) -> {
+                ps.setLong(1, accountNumber);
+                ps.setString(2, holderName);
+                ps.setString(3, accountType);
+                ps.setDouble(4, balance);
+                ps.addBatch();
+                if (++rows[0] % batchSize == 0) flush(conn, ps);
+            });
+            flush(conn, ps);
+            return rows[0];
+        }
+    }
+
+    private long loadTransactions(Connection conn, SyntheticDataGenerator generator) throws Exception {
+        PreparedStatement[] ps = {null};
+        YearMonth[] month = {null};
+        long[] rows = {0};
+        try {
+            generator.forEachTransaction((accountNumber, transactionType, amount, epochMillis) -> {
+                Timestamp date = new Timestamp(epochMillis);
+                YearMonth rowMonth = TransactionPartitionRepository.monthOf(date);
+                if (!rowMonth.equals(month[0])) {
+                    // Next month's partition — commit this one's rows before its table is created
+                    if (ps[0] != null) {
+                        flush(conn, ps[0]);
+                        ps[0].close();
+                    }
+                    String table = transactionPartitionRepository.tableFor(rowMonth);
+                    ps[0] = conn.prepareStatement("INSERT INTO " + table
+                            + " (account_number, transaction_type, amount, transaction_date) VALUES (?, ?, ?, ?)");
+                    month[0] = rowMonth;
+                }
+                ps[0].setLong(1, accountNumber);
+                ps[0].setString(2, transactionType);
+                ps[0].setDouble(3, amount);
+                ps[0].setTimestamp(4, date);
+                ps[0].addBatch();
+                if (++rows[0] % batchSize == 0) flush(conn, ps[0]);
+            });
+            if (ps[0] != null) flush(conn, ps[0]);
+        } finally {
+            if (ps[0] != null) ps[0].close();
+        }
+        return rows[0];
+    }
+
+    private void flush(Connection conn, PreparedStatement ps) throws SQLException {
+        ps.executeBatch();
+        conn.commit();
+    }
+}
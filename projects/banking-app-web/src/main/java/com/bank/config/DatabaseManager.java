@@ -1,73 +1,185 @@
 package com.bank.config;
 
+import com.bank.repository.TransactionPartitionRepository;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
 import java.sql.*;
 
 /**
- * Static helper class for H2 database connection and initialization.
- * Uses DriverManager for in-memory H2 database.
- * DB_CLOSE_DELAY=-1 keeps the database alive as long as the JVM runs.
+ * Creates the H2 schema and sample data on the shared connection pool.
+ * The transaction journal is a set of monthly partition tables,
+ * created and tracked by TransactionPartitionRepository.
+ * The pooled DataSource itself (HikariCP) is auto-configured by Spring Boot
+ * from the spring.datasource.* properties in application.properties
+ * (in memory by default, file-backed with the "file" profile — see application-file.properties).
+ *
+ * The schema version is recorded in schema_version, so restarting on a database that is
+ * already at SCHEMA_VERSION skips the DDL and goes straight to loading the partition catalog.
  */
+@Component
 public class DatabaseManager {
 
-    private static final String URL = "jdbc:h2:mem:bankdb;DB_CLOSE_DELAY=-1";
-    private static final String USER = "sa";
-    private static final String PASSWORD = "";
+    // Bump whenever the DDL below changes — older databases then re-run it (every statement is IF NOT EXISTS)
+    static final int SCHEMA_VERSION = 2;    // 2: idx_<partition>_amount_date
 
-    /**
-     * Returns a new JDBC connection to the H2 in-memory database.
-     */
-    public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+    private final DataSource dataSource;
+    private final TransactionPartitionRepository transactionPartitionRepository;
+
+    // Constructor injection — Spring provides the pooled DataSource
+    public DatabaseManager(DataSource dataSource, TransactionPartitionRepository transactionPartitionRepository) {
+        this.dataSource = dataSource;
+        this.transactionPartitionRepository = transactionPartitionRepository;
     }
 
     /**
-     * Creates the accounts and transactions tables and inserts sample data.
+     * Creates the accounts table, the transaction partition catalog and the current
+     * month's partitions, and inserts sample data — unless the schema is already current.
      * Called once at application startup.
      */
-    public static void initializeDatabase() {
-        try (Connection conn = getConnection();
+    public void initializeDatabase() {
+        try (Connection conn = dataSource.getConnection();
              Statement stmt = conn.createStatement()) {
 
-            // Create accounts table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS accounts (
-                    account_number BIGINT PRIMARY KEY,
-                    holder_name VARCHAR(100) NOT NULL,
-                    account_type VARCHAR(20) NOT NULL,
-                    balance DOUBLE DEFAULT 0
-                )
-            """);
-
-            // Create transactions table
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS transactions (
-                    transaction_id INT AUTO_INCREMENT PRIMARY KEY,
-                    account_number BIGINT NOT NULL,
-                    transaction_type VARCHAR(20) NOT NULL,
-                    amount DOUBLE NOT NULL,
-                    transaction_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                    FOREIGN KEY (account_number) REFERENCES accounts(account_number)
-                )
-            """);
-
-            // Insert sample data if tables are empty
-            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM accounts");
-            rs.next();
-            if (rs.getInt(1) == 0) {
-                stmt.executeUpdate("""
-                    INSERT INTO accounts (account_number, holder_name, account_type, balance) VALUES
-                    (1001, 'Ravi Kumar', 'SAVINGS', 50000),
-                    (1002, 'Priya Shah', 'CURRENT', 120000),
-                    (1003, 'Amit Verma', 'SAVINGS', 30000),
-                    (1004, 'Neha Gupta', 'SAVINGS', 75000)
-                """);
-                System.out.println("Sample data loaded: 4 accounts inserted.");
+            long start = System.nanoTime();
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (version INT NOT NULL)");
+            boolean current = schemaVersion(stmt) == SCHEMA_VERSION;
+            if (current) {
+                System.out.println("Schema v" + SCHEMA_VERSION + " already present - skipping schema creation.");
+            } else {
+                createSchema(stmt);
+                stmt.executeUpdate("DELETE FROM schema_version");
+                stmt.executeUpdate("INSERT INTO schema_version (version) VALUES (" + SCHEMA_VERSION + ")");
             }
 
-            System.out.println("Database initialized successfully.");
+            transactionPartitionRepository.load(!current);
+            System.out.printf("Database initialized successfully in %d ms.%n", (System.nanoTime() - start) / 1_000_000);
 
         } catch (SQLException e) {
             throw new RuntimeException("Failed to initialize database", e);
         }
     }
+
+    // ──── SCHEMA: tables and sample data (first start, or after a SCHEMA_VERSION bump) ────
+
+    private void createSchema(Statement stmt) throws SQLException {
+        // Create accounts table
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS accounts (
+                account_number BIGINT PRIMARY KEY,
+                holder_name VARCHAR(100) NOT NULL,
+                account_type VARCHAR(20) NOT NULL,
+                balance DOUBLE DEFAULT 0
+            )
+        """);
+
+        // Transaction journal — one table per month (transactions_YYYYMM), listed in
+        // transaction_partitions; ids come from one sequence so they are unique across months
+        stmt.execute("CREATE SEQUENCE IF NOT EXISTS transaction_id_seq");
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS transaction_partitions (
+                partition_month CHAR(7) PRIMARY KEY,
+                table_name VARCHAR(40) NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                archived_rows BIGINT NOT NULL,
+                archive_file VARCHAR(500)
+            )
+        """);
+
+        // Totals of archived partitions per account and type — the totals rebuild adds
+        // them to what it sums from the online partitions
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS archived_transaction_totals (
+                partition_month CHAR(7) NOT NULL,
+                account_number BIGINT NOT NULL,
+                transaction_type VARCHAR(20) NOT NULL,
+                total_amount DOUBLE NOT NULL,
+                txn_count BIGINT NOT NULL,
+                PRIMARY KEY (partition_month, account_number, transaction_type)
+            )
+        """);
+
+        // Running totals per type and per account/type — maintained with every journal write
+        // so summaries never SUM the transactions table (see TransactionTotalsRepository)
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS transaction_totals (
+                transaction_type VARCHAR(20) PRIMARY KEY,
+                total_amount DOUBLE NOT NULL,
+                txn_count BIGINT NOT NULL
+            )
+        """);
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS account_transaction_totals (
+                account_number BIGINT NOT NULL,
+                transaction_type VARCHAR(20) NOT NULL,
+                total_amount DOUBLE NOT NULL,
+                txn_count BIGINT NOT NULL,
+                PRIMARY KEY (account_number, transaction_type)
+            )
+        """);
+
+        // Archival deletes in progress — progress is committed with every history chunk,
+        // so an interrupted delete resumes where it stopped (see AccountDeletionJob)
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS account_deletions (
+                account_number BIGINT PRIMARY KEY,
+                status VARCHAR(20) NOT NULL,
+                deleted_rows BIGINT NOT NULL,
+                total_rows BIGINT NOT NULL,
+                started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                error VARCHAR(500)
+            )
+        """);
+
+        // Monthly interest accrual progress — advanced with every committed chunk,
+        // so an interrupted run resumes after the last credited account (see InterestAccrualJob)
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS interest_runs (
+                run_month CHAR(7) PRIMARY KEY,
+                status VARCHAR(20) NOT NULL,
+                rate DOUBLE NOT NULL,
+                last_account_number BIGINT NOT NULL,
+                end_account_number BIGINT NOT NULL,
+                accounts_credited BIGINT NOT NULL,
+                interest_total DOUBLE NOT NULL,
+                started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                error VARCHAR(500)
+            )
+        """);
+
+        // Balance checkpoints — the balance after every journal row dated at or before
+        // checkpoint_at; as-of queries replay only the rows since the nearest one (see BalanceCheckpointJob)
+        stmt.execute("""
+            CREATE TABLE IF NOT EXISTS balance_checkpoints (
+                account_number BIGINT NOT NULL,
+                checkpoint_at TIMESTAMP NOT NULL,
+                balance DOUBLE NOT NULL,
+                txn_count BIGINT NOT NULL,
+                PRIMARY KEY (account_number, checkpoint_at)
+            )
+        """);
+
+        // Insert sample data if tables are empty
+        ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM accounts");
+        rs.next();
+        if (rs.getInt(1) == 0) {
+            stmt.executeUpdate("""
+                INSERT INTO accounts (account_number, holder_name, account_type, balance) VALUES
+                (1001, 'Ravi Kumar', 'SAVINGS', 50000),
+                (1002, 'Priya Shah', 'CURRENT', 120000),
+                (1003, 'Amit Verma', 'SAVINGS', 30000),
+                (1004, 'Neha Gupta', 'SAVINGS', 75000)
+            """);
+            System.out.println("Sample data loaded: 4 accounts inserted.");
+        }
+    }
+
+    private static int schemaVersion(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
 }
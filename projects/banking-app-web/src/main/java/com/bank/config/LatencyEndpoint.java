@@ -0,0 +1,71 @@
+package com.bank.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /actuator/latency — one table of p50/p99/p999/max (ms) per endpoint,
+ * controller method, repository method and pool acquisition, slowest p99 first.
+ * Percentiles come from the HDR-style histograms Micrometer keeps for the timers
+ * listed in management.metrics.distribution.percentiles.* (last ~2 minutes).
+ */
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    private static final String[] TIMERS = {
+            "http.server.requests",            // whole request, incl. serialization
+            "bank.controller",                 // handler only
+            "bank.repository",                 // one JDBC call
+            "hikaricp.connections.acquire"     // waiting for a pooled connection
+    };
+
+    private final MeterRegistry registry;
+
+    public LatencyEndpoint(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, List<Map<String, Object>>> latency() {
+        Map<String, List<Map<String, Object>>> result = new LinkedHashMap<>();
+        for (String name : TIMERS) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (Timer timer : registry.find(name).timers()) {
+                rows.add(row(timer));
+            }
+            rows.sort(Comparator.comparingDouble((Map<String, Object> row) -> (double) row.get("p99Ms")).reversed());
+            result.put(name, rows);
+        }
+        return result;
+    }
+
+    // ──── HELPER: tags + count + percentiles of one timer ────
+
+    private Map<String, Object> row(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> row = new LinkedHashMap<>();
+        timer.getId().getTags().forEach(tag -> row.put(tag.getKey(), tag.getValue()));
+        row.put("count", snapshot.count());
+        row.put("p50Ms", percentile(snapshot, 0.5));
+        row.put("p99Ms", percentile(snapshot, 0.99));
+        row.put("p999Ms", percentile(snapshot, 0.999));
+        row.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+        return row;
+    }
+
+    private double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) return value.value(TimeUnit.MILLISECONDS);
+        }
+        return Double.NaN;    // percentile not configured for this timer
+    }
+}
@@ -0,0 +1,72 @@
+package com.bank.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every controller handler and every repository call into Micrometer timers:
+ *   bank.controller{class,method} — handler time, excluding JSON serialization; for handlers
+ *                                   returning a CompletionStage (deposit/withdraw), until it completes
+ *   bank.repository{class,method} — one JDBC call, including connection acquisition
+ * Together with http.server.requests (whole request) and hikaricp.connections.acquire
+ * (pool wait) this splits a latency spike into serialization, handler, SQL and pool time.
+ * Percentiles are configured in application.properties; see LatencyEndpoint.
+ */
+@Aspect
+@Component
+public class LatencyMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public LatencyMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object timeController(ProceedingJoinPoint call) throws Throwable {
+        return time("bank.controller", call);
+    }
+
+    @Around("within(@org.springframework.stereotype.Repository *)")
+    public Object timeRepository(ProceedingJoinPoint call) throws Throwable {
+        return time("bank.repository", call);
+    }
+
+    // ──── HELPER: one timer per method, created on first call ────
+
+    private Object time(String name, ProceedingJoinPoint call) throws Throwable {
+        Method method = ((MethodSignature) call.getSignature()).getMethod();
+        Timer timer = timers.computeIfAbsent(method, m -> Timer.builder(name)
+                .tag("class", m.getDeclaringClass().getSimpleName())
+                .tag("method", m.getName())
+                .register(registry));
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = call.proceed();
+        } catch (Throwable t) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw t;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            // Async handler — the work (e.g. the group-commit wait) ends when the stage completes
+            stage.whenComplete((value, error) -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        } else {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package com.bank.config;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of synthetic accounts and transactions for capacity tests.
+ * The same seed and sizes always produce exactly the same rows, so benchmark runs
+ * against seeded databases are reproducible.
+ *
+ * Transaction traffic is Zipf-distributed over the accounts (a few hot accounts take
+ * most of it); ranks are scattered over the account-number range so the hot accounts
+ * are not simply the lowest numbers. Timestamps rise through one year starting at
+ * START_EPOCH_MILLIS, in generation order. Withdrawals never overdraw, and every
+ * account's balance is its opening balance plus its generated deposits minus withdrawals.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long FIRST_ACCOUNT = 10_000_000;
+    private static final long START_EPOCH_MILLIS = 1_704_067_200_000L;    // 2024-01-01T00:00:00Z
+    private static final long SPAN_MILLIS = 365L * 24 * 60 * 60 * 1000;
+
+    private static final String[] FIRST_NAMES = {
+            "Ravi", "Priya", "Amit", "Neha", "Anil", "Sunita", "Vikram", "Meera", "Arjun", "Kavya",
+            "Rahul", "Pooja", "Sanjay", "Anjali", "Rohan", "Divya", "Karan", "Isha", "Manoj", "Lakshmi",
+            "Suresh", "Deepa", "Nikhil", "Shreya", "Arun", "Geeta", "Vijay", "Asha", "Harish", "Nisha"};
+    private static final String[] LAST_NAMES = {
+            "Kumar", "Shah", "Verma", "Gupta", "Sharma", "Singh", "Patel", "Reddy", "Iyer", "Nair",
+            "Rao", "Joshi", "Mehta", "Das", "Menon", "Pillai", "Chopra", "Bose", "Kapoor", "Mishra",
+            "Agarwal", "Desai", "Kulkarni", "Banerjee", "Saxena", "Malhotra", "Shetty", "Naidu", "Jain", "Sinha"};
+
+    /** Receives one generated account. */
+    public interface AccountSink {
+        void accept(long accountNumber, String holderName, String accountType, double balance) throws Exception;
+    }
+
+    /** Receives one generated transaction. */
+    public interface TransactionSink {
+        void accept(long accountNumber, String transactionType, double amount, long epochMillis) throws Exception;
+    }
+
+    private final long seed;
+    private final int accounts;
+    private final long transactions;
+    private final double zipfExponent;
+
+    public SyntheticDataGenerator(long seed, int accounts, long transactions, double zipfExponent) {
+        this.seed = seed;
+        this.accounts = accounts;
+        this.transactions = transactions;
+        this.zipfExponent = zipfExponent;
+    }
+
+    // ──── BALANCES after every generated transaction (runs the transaction stream without emitting it) ────
+
+    public double[] finalBalances() throws Exception {
+        return generateTransactions((accountNumber, type, amount, epochMillis) -> { });
+    }
+
+    // ──── ACCOUNTS in account-number order, with the given (final) balances ────
+
+    public void forEachAccount(double[] balances, AccountSink sink) throws Exception {
+        SplittableRandom random = new SplittableRandom(seed * 31 + 1);
+        for (int i = 0; i < accounts; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String type = random.nextInt(10) < 7 ? "SAVINGS" : "CURRENT";
+            sink.accept(FIRST_ACCOUNT + i, name, type, balances[i]);
+        }
+    }
+
+    // ──── TRANSACTIONS in journal (timestamp) order ────
+
+    public void forEachTransaction(TransactionSink sink) throws Exception {
+        generateTransactions(sink);
+    }
+
+    // ──── HELPERS ────
+
+    private double[] generateTransactions(TransactionSink sink) throws Exception {
+        double[] balances = openingBalances();
+        SplittableRandom random = new SplittableRandom(seed * 31 + 2);
+        ZipfSampler zipf = new ZipfSampler(accounts, zipfExponent);
+        long stride = coprimeStride(accounts);
+
+        for (long t = 0; t < transactions; t++) {
+            int rank = zipf.sample(random);    // 1 = hottest
+            int index = (int) ((rank - 1) * stride % accounts);
+            // Amounts are log-uniform between 10 and 10,000, in whole paise
+            double amount = Math.round(Math.pow(10, 1 + 3 * random.nextDouble()) * 100) / 100.0;
+            boolean deposit = random.nextInt(100) < 55 || balances[index] < amount;
+
+            balances[index] += deposit ? amount : -amount;
+            sink.accept(FIRST_ACCOUNT + index, deposit ? "DEPOSIT" : "WITHDRAW", amount,
+                    START_EPOCH_MILLIS + t * SPAN_MILLIS / Math.max(1, transactions));
+        }
+        return balances;
+    }
+
+    private double[] openingBalances() {
+        SplittableRandom random = new SplittableRandom(seed * 31);
+        double[] balances = new double[accounts];
+        for (int i = 0; i < accounts; i++) {
+            balances[i] = random.nextInt(100_000_00) / 100.0;
+        }
+        return balances;
+    }
+
+    // A stride coprime with n maps ranks 1..n onto 0..n-1 one-to-one, scattered over the range
+    private static long coprimeStride(int n) {
+        long stride = 2_654_435_761L % Math.max(1, n);
+        while (gcd(stride, n) != 1) stride++;
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Zipf(n, s) sampler by rejection-inversion (Hörmann & Derflinger) —
+     * O(1) per sample and no per-rank table, so it works for any number of accounts.
+     */
+    static class ZipfSampler {
+        private final int n;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralN;
+        private final double s;
+
+        ZipfSampler(int n, double exponent) {
+            this.n = n;
+            this.exponent = exponent;
+            this.hIntegralX1 = hIntegral(1.5) - 1;
+            this.hIntegralN = hIntegral(n + 0.5);
+            this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        int sample(SplittableRandom random) {
+            while (true) {
+                double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+                double x = hIntegralInverse(u);
+                int k = (int) (x + 0.5);
+                if (k < 1) k = 1;
+                else if (k > n) k = n;
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) return k;
+            }
+        }
+
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1 - exponent) * logX) * logX;
+        }
+
+        private double h(double x) {
+            return Math.exp(-exponent * Math.log(x));
+        }
+
+        private double hIntegralInverse(double x) {
+            double t = x * (1 - exponent);
+            if (t < -1) t = -1;
+            return Math.exp(helper1(t) * x);
+        }
+
+        // log1p(x) / x, accurate near 0
+        private static double helper1(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1 / 3.0 - 0.25 * x));
+        }
+
+        // expm1(x) / x, accurate near 0
+        private static double helper2(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x / 3.0 * (1 + 0.25 * x));
+        }
+    }
+}
@@ -1,13 +1,45 @@
 package com.bank.controller;
 
 import com.bank.model.Account;
+import com.bank.model.AccountDeletion;
+import com.bank.model.BalanceAsOf;
+import com.bank.model.BulkImportResult;
+import com.bank.model.InterestRun;
+import com.bank.model.Transaction;
+import com.bank.model.TransactionPartition;
+import com.bank.model.TransactionSearchCriteria;
+import com.bank.model.TransactionTotal;
+import com.bank.service.AccountCsv;
 import com.bank.service.AccountService;
+import com.bank.service.BalanceFeed;
+import com.bank.service.BulkImportService;
+import com.bank.service.InterestAccrualJob;
+import com.bank.service.OverloadedException;
+import com.bank.service.TransactionArchiver;
+import com.bank.service.TransactionCursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * REST controller for banking operations.
@@ -16,21 +48,183 @@ import java.util.Map;
  */
 @RestController
 @RequestMapping("/api/accounts")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = AccountController.NEXT_AFTER_HEADER)
 public class AccountController {
 
+    static final String NEXT_AFTER_HEADER = "X-Next-After";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
     private final AccountService accountService;
+    private final BulkImportService bulkImportService;
+    private final BalanceFeed balanceFeed;
+    private final TransactionArchiver transactionArchiver;
+    private final InterestAccrualJob interestAccrualJob;
+    private final ObjectMapper objectMapper;
+    private final int retryAfterSeconds;
 
-    // Constructor injection — Spring auto-provides the AccountService
-    public AccountController(AccountService accountService) {
+    // Constructor injection — Spring auto-provides the services and Jackson's ObjectMapper
+    public AccountController(AccountService accountService, BulkImportService bulkImportService,
+                             BalanceFeed balanceFeed, TransactionArchiver transactionArchiver,
+                             InterestAccrualJob interestAccrualJob, ObjectMapper objectMapper,
+                             @Value("${bank.admission.retry-after-seconds:1}") int retryAfterSeconds) {
         this.accountService = accountService;
+        this.bulkImportService = bulkImportService;
+        this.balanceFeed = balanceFeed;
+        this.transactionArchiver = transactionArchiver;
+        this.interestAccrualJob = interestAccrualJob;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
     }
 
-    // GET /api/accounts — list all accounts
+    // GET /api/accounts?after=X&limit=N — one keyset page ordered by account number
+    // X-Next-After header carries the cursor for the next page (absent on the last page)
     @GetMapping
-    public ResponseEntity<List<Account>> getAllAccounts() {
-        List<Account> accounts = accountService.getAllAccounts();
-        return ResponseEntity.ok(accounts);    // 200
+    public ResponseEntity<List<Account>> getAllAccounts(@RequestParam(required = false) Long after,
+                                                        @RequestParam(defaultValue = "100") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Account> accounts = accountService.getAccountsPage(after, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (accounts.size() == pageSize) {
+            long last = accounts.get(accounts.size() - 1).getAccountNumber();
+            response.header(NEXT_AFTER_HEADER, String.valueOf(last));
+        }
+        return response.body(accounts);    // 200
+    }
+
+    // GET /api/accounts/export?format=ndjson|csv — every account, streamed in keyset pages
+    @GetMapping(value = "/export", produces = {NDJSON, CSV})
+    public ResponseEntity<StreamingResponseBody> exportAccounts(@RequestParam(defaultValue = "ndjson") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (csv) writer.write(AccountCsv.HEADER + "\n");
+            accountService.exportAccounts(EXPORT_PAGE_SIZE, acc -> {
+                try {
+                    writer.write(csv ? AccountCsv.format(acc) : objectMapper.writeValueAsString(acc));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);    // client went away — stop paging
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(csv ? CSV : NDJSON)).body(body);    // 200
+    }
+
+    // POST /api/accounts/bulk — streamed CSV (text/csv) or NDJSON import, inserted in JDBC batches
+    @PostMapping(value = "/bulk", consumes = {NDJSON, CSV})
+    public ResponseEntity<BulkImportResult> importAccounts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                           InputStream body) throws IOException {
+        boolean csv = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(CSV));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        BulkImportResult result = bulkImportService.importAccounts(reader, csv);
+        return ResponseEntity.ok(result);    // 200
+    }
+
+    // GET /api/accounts/feed?account=N — Server-Sent Events: "transaction" for every committed
+    // deposit/withdrawal, "balance" with the latest balance per account, "dropped" if events were lost
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter balanceFeed(@RequestParam(required = false) Long account) {
+        return balanceFeed.subscribe(account);
+    }
+
+    // GET /api/accounts/transactions/search?account=A&account=B&type=X&minAmount=M&maxAmount=N&from=D&to=D&after=T&limit=N
+    // Transactions of every account matching all given filters, newest first; X-Next-After carries the continuation token
+    @GetMapping("/transactions/search")
+    public ResponseEntity<?> searchTransactions(@RequestParam(name = "account", required = false) List<Long> accounts,
+                                                @RequestParam(required = false) String type,
+                                                @RequestParam(required = false) Double minAmount,
+                                                @RequestParam(required = false) Double maxAmount,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                @RequestParam(required = false) String after,
+                                                @RequestParam(defaultValue = "50") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(accounts, type, minAmount, maxAmount, from, to);
+        try {
+            List<Transaction> page = accountService.searchTransactions(criteria, after, pageSize);
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.size() == pageSize) {
+                response.header(NEXT_AFTER_HEADER, TransactionCursor.encode(page.get(page.size() - 1)));
+            }
+            return response.body(page);    // 200
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));    // 400
+        }
+    }
+
+    // GET /api/accounts/stats — number of accounts and total balance (dashboard)
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(accountService.getAccountStats());    // 200
+    }
+
+    // GET /api/accounts/summary — running totals per transaction type
+    @GetMapping("/summary")
+    public ResponseEntity<List<TransactionTotal>> getSummary() {
+        return ResponseEntity.ok(accountService.getTransactionTotals());    // 200
+    }
+
+    // POST /api/accounts/summary/rebuild — recompute all running totals from the journal
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<List<TransactionTotal>> rebuildSummary() {
+        return ResponseEntity.ok(accountService.rebuildTransactionTotals());    // 200
+    }
+
+    // GET /api/accounts/partitions — monthly transaction partitions, online and archived
+    @GetMapping("/partitions")
+    public ResponseEntity<List<TransactionPartition>> getPartitions() {
+        return ResponseEntity.ok(transactionArchiver.getPartitions());    // 200
+    }
+
+    // POST /api/accounts/partitions/{month}/archive — export a past month (e.g. 2024-01) to a
+    // compressed file and drop its table; its history stays readable from the file
+    @PostMapping("/partitions/{month}/archive")
+    public ResponseEntity<?> archivePartition(@PathVariable String month) {
+        try {
+            return ResponseEntity.ok(transactionArchiver.archive(YearMonth.parse(month)));    // 200
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Month must look like 2024-01"));    // 400
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));    // 400
+        }
+    }
+
+    // POST /api/accounts/interest/{month} — credit a past month's (e.g. 2024-01) interest to SAVINGS accounts
+    // 202 while it runs (poll GET .../interest/{month} for progress), 200 once it is done
+    @PostMapping("/interest/{month}")
+    public ResponseEntity<?> accrueInterest(@PathVariable String month) {
+        try {
+            InterestRun run = interestAccrualJob.start(YearMonth.parse(month));
+            if ("DONE".equals(run.getStatus())) {
+                return ResponseEntity.ok(run);    // 200
+            }
+            return ResponseEntity.accepted().body(run);    // 202
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Month must look like 2024-01"));    // 400
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));    // 400
+        }
+    }
+
+    // GET /api/accounts/interest/{month} — progress of a month's interest run
+    @GetMapping("/interest/{month}")
+    public ResponseEntity<?> getInterestRun(@PathVariable String month) {
+        try {
+            InterestRun run = interestAccrualJob.getProgress(YearMonth.parse(month));
+            if (run == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "No interest run for " + month));    // 404
+            }
+            return ResponseEntity.ok(run);    // 200
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Month must look like 2024-01"));    // 400
+        }
     }
 
     // GET /api/accounts/{accountNumber} — get by account number
@@ -44,6 +238,57 @@ public class AccountController {
         return ResponseEntity.ok(acc);    // 200
     }
 
+    // GET /api/accounts/{accountNumber}/transactions?after=T&limit=N&from=D&to=D&type=X
+    // One page of history, newest first; X-Next-After carries the continuation token
+    @GetMapping("/{accountNumber}/transactions")
+    public ResponseEntity<?> getTransactions(@PathVariable long accountNumber,
+                                             @RequestParam(required = false) String after,
+                                             @RequestParam(defaultValue = "50") int limit,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                             @RequestParam(required = false) String type) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        try {
+            List<Transaction> history = accountService.getTransactionHistory(accountNumber, after, from, to, type, pageSize);
+            if (history == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Account #" + accountNumber + " not found"));    // 404
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (history.size() == pageSize) {
+                response.header(NEXT_AFTER_HEADER, TransactionCursor.encode(history.get(history.size() - 1)));
+            }
+            return response.body(history);    // 200
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));    // 400
+        }
+    }
+
+    // GET /api/accounts/{accountNumber}/summary — running totals per type for one account
+    @GetMapping("/{accountNumber}/summary")
+    public ResponseEntity<?> getAccountSummary(@PathVariable long accountNumber) {
+        List<TransactionTotal> totals = accountService.getAccountTransactionTotals(accountNumber);
+        if (totals == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Account #" + accountNumber + " not found"));    // 404
+        }
+        return ResponseEntity.ok(totals);    // 200
+    }
+
+    // GET /api/accounts/{accountNumber}/balance?asOf=2024-01-31T23:59:59 — balance at a past moment,
+    // replayed from the nearest balance checkpoint
+    @GetMapping("/{accountNumber}/balance")
+    public ResponseEntity<?> getBalanceAsOf(@PathVariable long accountNumber,
+                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        BalanceAsOf balance = accountService.getBalanceAsOf(accountNumber, asOf);
+        if (balance == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Account #" + accountNumber + " not found"));    // 404
+        }
+        return ResponseEntity.ok(balance);    // 200
+    }
+
     // POST /api/accounts — create new account
     @PostMapping
     public ResponseEntity<?> createAccount(@RequestBody Account account) {
@@ -67,53 +312,53 @@ public class AccountController {
         return ResponseEntity.ok(updated);    // 200
     }
 
-    // DELETE /api/accounts/{accountNumber} — delete account
+    // DELETE /api/accounts/{accountNumber} — archival delete: history in chunks, then the account
+    // 202 while it runs (poll GET .../deletion for progress), 204 once it is done
     @DeleteMapping("/{accountNumber}")
     public ResponseEntity<?> deleteAccount(@PathVariable long accountNumber) {
-        boolean deleted = accountService.deleteAccount(accountNumber);
-        if (!deleted) {
+        AccountDeletion deletion = accountService.deleteAccount(accountNumber);
+        if (deletion == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("error", "Account #" + accountNumber + " not found"));    // 404
         }
-        return ResponseEntity.noContent().build();    // 204
+        if ("DONE".equals(deletion.getStatus())) {
+            return ResponseEntity.noContent().build();    // 204
+        }
+        return ResponseEntity.accepted().body(deletion);    // 202
+    }
+
+    // GET /api/accounts/{accountNumber}/deletion — progress of an archival delete
+    @GetMapping("/{accountNumber}/deletion")
+    public ResponseEntity<?> getDeletion(@PathVariable long accountNumber) {
+        AccountDeletion deletion = accountService.getDeletionProgress(accountNumber);
+        if (deletion == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "No delete for account #" + accountNumber));    // 404
+        }
+        return ResponseEntity.ok(deletion);    // 200
     }
 
     // POST /api/accounts/{accountNumber}/deposit?amount=X — deposit money
+    // Async: the request thread is released while the group commit is pending
     @PostMapping("/{accountNumber}/deposit")
-    public ResponseEntity<?> deposit(@PathVariable long accountNumber,
-                                     @RequestParam double amount) {
-        try {
-            Account acc = accountService.deposit(accountNumber, amount);
-            if (acc == null) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(Map.of("error", "Account #" + accountNumber + " not found"));    // 404
-            }
-            return ResponseEntity.ok(acc);    // 200
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));    // 400
-        }
+    public CompletableFuture<ResponseEntity<?>> deposit(@PathVariable long accountNumber,
+                                                        @RequestParam double amount) {
+        return balanceChange(accountNumber, () -> accountService.depositAsync(accountNumber, amount));
     }
 
     // POST /api/accounts/{accountNumber}/withdraw?amount=X — withdraw money
     @PostMapping("/{accountNumber}/withdraw")
-    public ResponseEntity<?> withdraw(@PathVariable long accountNumber,
-                                      @RequestParam double amount) {
-        try {
-            Account acc = accountService.withdraw(accountNumber, amount);
-            if (acc == null) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(Map.of("error", "Account #" + accountNumber + " not found"));    // 404
-            }
-            return ResponseEntity.ok(acc);    // 200
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));    // 400
-        }
+    public CompletableFuture<ResponseEntity<?>> withdraw(@PathVariable long accountNumber,
+                                                         @RequestParam double amount) {
+        return balanceChange(accountNumber, () -> accountService.withdrawAsync(accountNumber, amount));
     }
 
-    // GET /api/accounts/search?name=X — search accounts by holder name
+    // GET /api/accounts/search?name=X&limit=N — holder names containing X, best match first
     @GetMapping("/search")
-    public ResponseEntity<List<Account>> searchByName(@RequestParam String name) {
-        List<Account> accounts = accountService.searchByName(name);
+    public ResponseEntity<List<Account>> searchByName(@RequestParam String name,
+                                                      @RequestParam(defaultValue = "20") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Account> accounts = accountService.searchByName(name, pageSize);
         return ResponseEntity.ok(accounts);    // 200
     }
 
@@ -123,4 +368,41 @@ public class AccountController {
         List<Account> accounts = accountService.filterByType(type);
         return ResponseEntity.ok(accounts);    // 200
     }
+
+    // ──── HELPER: map a pending deposit/withdrawal to 200 / 404 / 400 once it commits ────
+    // 503 + Retry-After straight away when the AdmissionLimiter refuses it, and when the commit
+    // is not confirmed within bank.journal.commit-timeout-ms (not the 30m async request timeout)
+
+    private CompletableFuture<ResponseEntity<?>> balanceChange(long accountNumber,
+                                                              Supplier<CompletableFuture<Account>> change) {
+        CompletableFuture<Account> pending;
+        try {
+            pending = change.get();
+        } catch (OverloadedException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(Map.of("error", e.getMessage())));    // 503
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(Map.of("error", e.getMessage())));    // 400
+        }
+        return pending.handle((acc, error) -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof IllegalArgumentException) {
+                return ResponseEntity.badRequest().body(Map.of("error", cause.getMessage()));    // 400
+            }
+            if (cause instanceof TimeoutException) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                        .body(Map.of("error", "Commit not confirmed in time - it may still be applied; "
+                                + "check the balance before retrying"));    // 503
+            }
+            if (cause != null) throw new CompletionException(cause);    // 500
+            if (acc == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Account #" + accountNumber + " not found"));    // 404
+            }
+            return ResponseEntity.ok(acc);    // 200
+        });
+    }
 }
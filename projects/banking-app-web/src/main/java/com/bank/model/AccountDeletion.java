@@ -0,0 +1,92 @@
+package com.bank.model;
+
+/**
+ * Progress of one archival delete — returned by DELETE /api/accounts/{accountNumber}
+ * and GET /api/accounts/{accountNumber}/deletion.
+ * Status is RUNNING while history chunks are being removed, DONE once the account
+ * row itself is gone, FAILED if a chunk failed (deleting again resumes it).
+ */
+public class AccountDeletion {
+
+    private long accountNumber;
+    private String status;
+    private long deletedRows;
+    private long totalRows;     // journal rows when the delete started (more may arrive until it finishes)
+    private String startedAt;
+    private String updatedAt;
+    private String error;
+
+    // Default constructor (required by Jackson for JSON deserialization)
+    public AccountDeletion() {
+    }
+
+    // Parameterized constructor
+    public AccountDeletion(long accountNumber, String status, long deletedRows, long totalRows,
+                           String startedAt, String updatedAt, String error) {
+        this.accountNumber = accountNumber;
+        this.status = status;
+        this.deletedRows = deletedRows;
+        this.totalRows = totalRows;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+        this.error = error;
+    }
+
+    // Getters and Setters
+
+    public long getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(long accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getDeletedRows() {
+        return deletedRows;
+    }
+
+    public void setDeletedRows(long deletedRows) {
+        this.deletedRows = deletedRows;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public String getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(String startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(String updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,70 @@
+package com.bank.model;
+
+/**
+ * An account's balance at a past moment — returned by GET /api/accounts/{accountNumber}/balance?asOf=...
+ * Computed from the nearest balance checkpoint (checkpointAt) by replaying only the
+ * journal rows between the two (replayedTransactions).
+ */
+public class BalanceAsOf {
+
+    private long accountNumber;
+    private String asOf;
+    private double balance;
+    private String checkpointAt;
+    private long replayedTransactions;
+
+    // Default constructor (required by Jackson for JSON deserialization)
+    public BalanceAsOf() {
+    }
+
+    // Parameterized constructor
+    public BalanceAsOf(long accountNumber, String asOf, double balance, String checkpointAt, long replayedTransactions) {
+        this.accountNumber = accountNumber;
+        this.asOf = asOf;
+        this.balance = balance;
+        this.checkpointAt = checkpointAt;
+        this.replayedTransactions = replayedTransactions;
+    }
+
+    // Getters and Setters
+
+    public long getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(long accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public String getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(String asOf) {
+        this.asOf = asOf;
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    public void setBalance(double balance) {
+        this.balance = balance;
+    }
+
+    public String getCheckpointAt() {
+        return checkpointAt;
+    }
+
+    public void setCheckpointAt(String checkpointAt) {
+        this.checkpointAt = checkpointAt;
+    }
+
+    public long getReplayedTransactions() {
+        return replayedTransactions;
+    }
+
+    public void setReplayedTransactions(long replayedTransactions) {
+        this.replayedTransactions = replayedTransactions;
+    }
+}
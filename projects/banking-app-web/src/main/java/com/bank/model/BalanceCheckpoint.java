@@ -0,0 +1,60 @@
+package com.bank.model;
+
+/**
+ * An account's balance at a checkpoint: the balance after every journal row dated
+ * at or before checkpointAt. txnCount is the account's journal row count at that point,
+ * which tells the checkpoint job whether the account has moved since.
+ */
+public class BalanceCheckpoint {
+
+    private long accountNumber;
+    private String checkpointAt;
+    private double balance;
+    private long txnCount;
+
+    // Default constructor (required by Jackson for JSON deserialization)
+    public BalanceCheckpoint() {
+    }
+
+    // Parameterized constructor
+    public BalanceCheckpoint(long accountNumber, String checkpointAt, double balance, long txnCount) {
+        this.accountNumber = accountNumber;
+        this.checkpointAt = checkpointAt;
+        this.balance = balance;
+        this.txnCount = txnCount;
+    }
+
+    // Getters and Setters
+
+    public long getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(long accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public String getCheckpointAt() {
+        return checkpointAt;
+    }
+
+    public void setCheckpointAt(String checkpointAt) {
+        this.checkpointAt = checkpointAt;
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    public void setBalance(double balance) {
+        this.balance = balance;
+    }
+
+    public long getTxnCount() {
+        return txnCount;
+    }
+
+    public void setTxnCount(long txnCount) {
+        this.txnCount = txnCount;
+    }
+}
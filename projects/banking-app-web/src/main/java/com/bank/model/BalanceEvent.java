@@ -0,0 +1,71 @@
+package com.bank.model;
+
+/**
+ * A committed deposit or withdrawal, as pushed to GET /api/accounts/feed subscribers.
+ * Sent as a "transaction" event for every commit and as a coalesced "balance" event
+ * (latest balance per account only) — see BalanceFeed.
+ */
+public class BalanceEvent {
+
+    private long accountNumber;
+    private String transactionType;    // "DEPOSIT" or "WITHDRAW"
+    private double amount;
+    private double balance;            // balance after this transaction
+    private long committedAt;          // epoch millis of the group commit
+
+    // Default constructor (required by Jackson for JSON deserialization)
+    public BalanceEvent() {
+    }
+
+    // Parameterized constructor
+    public BalanceEvent(long accountNumber, String transactionType, double amount,
+                        double balance, long committedAt) {
+        this.accountNumber = accountNumber;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.balance = balance;
+        this.committedAt = committedAt;
+    }
+
+    // Getters and Setters
+
+    public long getAccountNumber() {
+        return accountNumber;
+    }
+
+    public void setAccountNumber(long accountNumber) {
+        this.accountNumber = accountNumber;
+    }
+
+    public String getTransactionType() {
+        return transactionType;
+    }
+
+    public void setTransactionType(String transactionType) {
+        this.transactionType = transactionType;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    public void setBalance(double balance) {
+        this.balance = balance;
+    }
+
+    public long getCommittedAt() {
+        return committedAt;
+    }
+
+    public void setCommittedAt(long committedAt) {
+        this.committedAt = committedAt;
+    }
+}
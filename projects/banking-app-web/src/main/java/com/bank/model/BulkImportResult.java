@@ -0,0 +1,77 @@
+package com.bank.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary returned by POST /api/accounts/bulk.
+ * Counts every line read, how it was handled, and the achieved rows/sec.
+ */
+public class BulkImportResult {
+
+    private long received;
+    private long inserted;
+    private long duplicates;
+    private long rejected;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<String> errors = new ArrayList<>();    // first few rejected lines only
+
+    // Getters and Setters
+
+    public long getReceived() {
+        return received;
+    }
+
+    public void setReceived(long received) {
+        this.received = received;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(long inserted) {
+        this.inserted = inserted;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(long duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,122 @@
+package com.bank.model;
+
+/**
+ * Progress of one month's interest accrual — returned by POST/GET /api/accounts/interest/{month}.
+ * Accounts up to endAccountNumber (the highest when the run started) are credited in
+ * account-number order; lastAccountNumber is where the last committed chunk ended, so an
+ * interrupted run resumes just after it. Status is RUNNING, DONE or FAILED.
+ */
+public class InterestRun {
+
+    private String month;              // "2024-01"
+    private String status;
+    private double rate;               // monthly rate applied to the balance
+    private long lastAccountNumber;
+    private long endAccountNumber;
+    private long accountsCredited;
+    private double interestTotal;
+    private String startedAt;
+    private String updatedAt;
+    private String error;
+
+    // Default constructor (required by Jackson for JSON deserialization)
+    public InterestRun() {
+    }
+
+    // Parameterized constructor
+    public InterestRun(String month, String status, double rate, long lastAccountNumber, long endAccountNumber,
+                       long accountsCredited, double interestTotal, String startedAt, String updatedAt, String error) {
+        this.month = month;
+        this.status = status;
+        this.rate = rate;
+        this.lastAccountNumber = lastAccountNumber;
+        this.endAccountNumber = endAccountNumber;
+        this.accountsCredited = accountsCredited;
+        this.interestTotal = interestTotal;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+        this.error = error;
+    }
+
+    // Getters and Setters
+
+    public String getMonth() {
+        return month;
+    }
+
+    public void setMonth(String month) {
+        this.month = month;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public long getLastAccountNumber() {
+        return lastAccountNumber;
+    }
+
+    public void setLastAccountNumber(long lastAccountNumber) {
+        this.lastAccountNumber = lastAccountNumber;
+    }
+
+    public long getEndAccountNumber() {
+        return endAccountNumber;
+    }
+
+    public void setEndAccountNumber(long endAccountNumber) {
+        this.endAccountNumber = endAccountNumber;
+    }
+
+    public long getAccountsCredited() {
+        return accountsCredited;
+    }
+
+    public void setAccountsCredited(long accountsCredited) {
+        this.accountsCredited = accountsCredited;
+    }
+
+    public double getInterestTotal() {
+        return interestTotal;
+    }
+
+    public void setInterestTotal(double interestTotal) {
+        this.interestTotal = interestTotal;
+    }
+
+    public String getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(String startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(String updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
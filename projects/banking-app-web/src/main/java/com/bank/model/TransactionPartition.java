@@ -0,0 +1,75 @@
+package com.bank.model;
+
+/**
+ * One month of the transaction journal.
+ * ONLINE partitions are tables (transactions_YYYYMM); ARCHIVED ones have been exported
+ * to a compressed file and dropped, and are read from that file on demand.
+ */
+public class TransactionPartition {
+
+    private String month;          // "2024-01"
+    private String tableName;
+    private String status;         // "ONLINE" or "ARCHIVED"
+    private long archivedRows;
+    private String archiveFile;
+
+    // Default constructor (required by Jackson for JSON deserialization)
+    public TransactionPartition() {
+    }
+
+    // Parameterized constructor
+    public TransactionPartition(String month, String tableName, String status,
+                                long archivedRows, String archiveFile) {
+        this.month = month;
+        this.tableName = tableName;
+        this.status = status;
+        this.archivedRows = archivedRows;
+        this.archiveFile = archiveFile;
+    }
+
+    public boolean isArchived() {
+        return "ARCHIVED".equals(status);
+    }
+
+    // Getters and Setters
+
+    public String getMonth() {
+        return month;
+    }
+
+    public void setMonth(String month) {
+        this.month = month;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getArchivedRows() {
+        return archivedRows;
+    }
+
+    public void setArchivedRows(long archivedRows) {
+        this.archivedRows = archivedRows;
+    }
+
+    public String getArchiveFile() {
+        return archiveFile;
+    }
+
+    public void setArchiveFile(String archiveFile) {
+        this.archiveFile = archiveFile;
+    }
+}
@@ -0,0 +1,84 @@
+package com.bank.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters for GET /api/accounts/transactions/search — every one is optional
+ * and they are combined with AND. The date window is inclusive of both days.
+ */
+public class TransactionSearchCriteria {
+
+    private List<Long> accountNumbers = new ArrayList<>();    // empty = every account
+    private String type;
+    private Double minAmount;
+    private Double maxAmount;
+    private LocalDate from;
+    private LocalDate to;
+
+    // Default constructor (required by Jackson for JSON deserialization)
+    public TransactionSearchCriteria() {
+    }
+
+    // Parameterized constructor
+    public TransactionSearchCriteria(List<Long> accountNumbers, String type, Double minAmount,
+                                     Double maxAmount, LocalDate from, LocalDate to) {
+        this.accountNumbers = accountNumbers != null ? accountNumbers : new ArrayList<>();
+        this.type = type;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+
+    public List<Long> getAccountNumbers() {
+        return accountNumbers;
+    }
+
+    public void setAccountNumbers(List<Long> accountNumbers) {
+        this.accountNumbers = accountNumbers != null ? accountNumbers : new ArrayList<>();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Double getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(Double minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public Double getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(Double maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+}
@@ -0,0 +1,49 @@
+package com.bank.model;
+
+/**
+ * Running total of one transaction type — for all accounts or for one account.
+ * Read from the incrementally maintained aggregate tables, not from a SUM scan.
+ */
+public class TransactionTotal {
+
+    private String transactionType;
+    private double totalAmount;
+    private long count;
+
+    // Default constructor (required by Jackson for JSON deserialization)
+    public TransactionTotal() {
+    }
+
+    // Parameterized constructor
+    public TransactionTotal(String transactionType, double totalAmount, long count) {
+        this.transactionType = transactionType;
+        this.totalAmount = totalAmount;
+        this.count = count;
+    }
+
+    // Getters and Setters
+
+    public String getTransactionType() {
+        return transactionType;
+    }
+
+    public void setTransactionType(String transactionType) {
+        this.transactionType = transactionType;
+    }
+
+    public double getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(double totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,129 @@
+package com.bank.repository;
+
+import com.bank.model.AccountDeletion;
+
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC repository for archival-delete progress (account_deletions).
+ * Progress is updated inside each chunk's transaction, so it always matches
+ * the history rows that are actually gone.
+ */
+@Repository
+public class AccountDeletionRepository {
+
+    private final DataSource dataSource;
+
+    public AccountDeletionRepository(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    }
+
+    // ──── START (or restart) a delete — keeps the progress of an unfinished earlier attempt ────
+
+    public void start(long accountNumber, long totalRows) throws SQLException {
+        String sql = """
+            MERGE INTO account_deletions d
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT))) AS s(account_number, total_rows)
+            ON d.account_number = s.account_number
+            WHEN MATCHED AND d.status = 'DONE' THEN UPDATE SET status = 'RUNNING', deleted_rows = 0,
+                total_rows = s.total_rows, started_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP, error = NULL
+            WHEN MATCHED THEN UPDATE SET status = 'RUNNING', error = NULL, updated_at = CURRENT_TIMESTAMP
+            WHEN NOT MATCHED THEN INSERT (account_number, status, deleted_rows, total_rows)
+                VALUES (s.account_number, 'RUNNING', 0, s.total_rows)
+        """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, accountNumber);
+            ps.setLong(2, totalRows);
+            ps.executeUpdate();
+        }
+    }
+
+    // ──── ADD deleted rows to the progress ────
+
+    public void addDeleted(long accountNumber, long rows) throws SQLException {
+        String sql = """
+            UPDATE account_deletions SET deleted_rows = deleted_rows + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE account_number = ?
+        """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, rows);
+            ps.setLong(2, accountNumber);
+            ps.executeUpdate();
+        }
+    }
+
+    // ──── FINISH — DONE, or FAILED with the reason ────
+
+    public void finish(long accountNumber, String status, String error) throws SQLException {
+        String sql = "UPDATE account_deletions SET status = ?, error = ?, updated_at = CURRENT_TIMESTAMP WHERE account_number = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, status);
+            ps.setString(2, error);
+            ps.setLong(3, accountNumber);
+            ps.executeUpdate();
+        }
+    }
+
+    // ──── READ (by account number) ────
+
+    public AccountDeletion findByAccountNumber(long accountNumber) throws SQLException {
+        String sql = "SELECT * FROM account_deletions WHERE account_number = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, accountNumber);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return mapRowToDeletion(rs);
+                }
+                return null;    // not found
+            }
+        }
+    }
+
+    // ──── READ (by status — RUNNING deletes are resumed at startup) ────
+
+    public List<AccountDeletion> findByStatus(String status) throws SQLException {
+        String sql = "SELECT * FROM account_deletions WHERE status = ? ORDER BY started_at";
+        List<AccountDeletion> deletions = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, status);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    deletions.add(mapRowToDeletion(rs));
+                }
+            }
+        }
+        return deletions;
+    }
+
+    // ──── HELPER: map a ResultSet row to an AccountDeletion object ────
+
+    private AccountDeletion mapRowToDeletion(ResultSet rs) throws SQLException {
+        return new AccountDeletion(
+                rs.getLong("account_number"),
+                rs.getString("status"),
+                rs.getLong("deleted_rows"),
+                rs.getLong("total_rows"),
+                rs.getTimestamp("started_at").toString(),
+                rs.getTimestamp("updated_at").toString(),
+                rs.getString("error")
+        );
+    }
+}
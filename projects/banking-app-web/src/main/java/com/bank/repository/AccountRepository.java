@@ -1,24 +1,37 @@
 package com.bank.repository;
 
-import com.bank.config.DatabaseManager;
 import com.bank.model.Account;
+import com.bank.model.Transaction;
 
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * JDBC repository for Account CRUD operations.
  * All methods use PreparedStatement with ? placeholders and try-with-resources.
+ * Connections are borrowed from the shared pool and returned on close().
+ * Inside a @Transactional service method every call joins the same connection.
  */
+@Repository
 public class AccountRepository {
 
+    private final DataSource dataSource;
+
+    public AccountRepository(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    }
+
     // ──── CREATE ────
 
     public Account insert(Account account) throws SQLException {
         String sql = "INSERT INTO accounts (account_number, holder_name, account_type, balance) VALUES (?, ?, ?, ?)";
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, account.getAccountNumber());
             ps.setString(2, account.getHolderName());
@@ -29,29 +42,85 @@ public class AccountRepository {
         }
     }
 
-    // ──── READ (all) ────
+    // ──── CREATE many — one JDBC batch, rows whose account number already exists are skipped ────
+    // Deduplication is set-based on the primary key (NOT EXISTS), so duplicates inside the
+    // batch itself are caught too. Returns one update count per account: 0 means duplicate.
+
+    public int[] insertBatchIfAbsent(List<Account> accounts) throws SQLException {
+        String sql = """
+            INSERT INTO accounts (account_number, holder_name, account_type, balance)
+            SELECT CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS DOUBLE)
+            WHERE NOT EXISTS (SELECT 1 FROM accounts WHERE account_number = ?)
+        """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (Account account : accounts) {
+                ps.setLong(1, account.getAccountNumber());
+                ps.setString(2, account.getHolderName());
+                ps.setString(3, account.getAccountType());
+                ps.setDouble(4, account.getBalance());
+                ps.setLong(5, account.getAccountNumber());
+                ps.addBatch();
+            }
+            return ps.executeBatch();
+        }
+    }
 
-    public List<Account> findAll() throws SQLException {
-        String sql = "SELECT * FROM accounts ORDER BY account_number";
+    // ──── READ (one keyset page — WHERE account_number > last seen, no OFFSET scan) ────
+
+    public List<Account> findPage(long afterAccountNumber, int limit) throws SQLException {
+        String sql = "SELECT * FROM accounts WHERE account_number > ? ORDER BY account_number LIMIT ?";
         List<Account> accounts = new ArrayList<>();
 
-        try (Connection conn = DatabaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, afterAccountNumber);
+            ps.setInt(2, limit);
 
-            while (rs.next()) {
-                accounts.add(mapRowToAccount(rs));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    accounts.add(mapRowToAccount(rs));
+                }
             }
         }
         return accounts;
     }
 
+    // ──── READ (stream all — keyset pages of pageSize rows, each page a short query of its own) ────
+    // Only one page is ever held in memory (embedded H2 buffers a whole result set, whatever the
+    // fetch size) and no connection is held while the consumer runs. Each account is visited once;
+    // an account changed mid-stream is seen as it was when its page was read.
+
+    public void streamAll(int pageSize, Consumer<Account> consumer) throws SQLException {
+        long after = Long.MIN_VALUE;
+        List<Account> page;
+        do {
+            page = findPage(after, pageSize);
+            page.forEach(consumer);
+            if (!page.isEmpty()) after = page.get(page.size() - 1).getAccountNumber();
+        } while (page.size() == pageSize);
+    }
+
+    // ──── COUNT and total balance — [0] = accounts, [1] = sum of balances (one aggregate query) ────
+
+    public double[] countAndSumBalances() throws SQLException {
+        String sql = "SELECT COUNT(*), COALESCE(SUM(balance), 0) FROM accounts";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return new double[]{rs.getLong(1), rs.getDouble(2)};
+        }
+    }
+
     // ──── READ (by account number) ────
 
     public Account findByAccountNumber(long accountNumber) throws SQLException {
         String sql = "SELECT * FROM accounts WHERE account_number = ?";
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, accountNumber);
 
@@ -64,16 +133,135 @@ public class AccountRepository {
         }
     }
 
-    // ──── UPDATE (balance only) ────
+    // ──── FIND the last account number of the next chunk (keyset over accounts), null when done ────
 
-    public void updateBalance(long accountNumber, double newBalance) throws SQLException {
-        String sql = "UPDATE accounts SET balance = ? WHERE account_number = ?";
+    public Long findChunkEnd(long afterAccountNumber, int limit) throws SQLException {
+        String sql = """
+            SELECT MAX(account_number) FROM (
+                SELECT account_number FROM accounts WHERE account_number > ? ORDER BY account_number LIMIT ?
+            )
+        """;
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setDouble(1, newBalance);
-            ps.setLong(2, accountNumber);
-            ps.executeUpdate();
+            ps.setLong(1, afterAccountNumber);
+            ps.setInt(2, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                long last = rs.getLong(1);
+                return rs.wasNull() ? null : last;
+            }
+        }
+    }
+
+    // ──── FIND the highest account number (0 when there are no accounts) ────
+
+    public long findMaxAccountNumber() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT COALESCE(MAX(account_number), 0) FROM accounts");
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // ──── INTEREST owed to the accounts of one type in (after, upTo] ────
+    // One INTEREST transaction per account whose interest (balance * rate, rounded to cents) is positive.
+    // The type matches case-insensitively, like findByType — accountType is given upper-case.
+
+    public List<Transaction> findInterest(long afterAccountNumber, long upToAccountNumber, String accountType,
+                                          double rate) throws SQLException {
+        String sql = """
+            SELECT account_number, ROUND(balance * ?, 2) AS interest FROM accounts
+            WHERE account_number > ? AND account_number <= ? AND UPPER(account_type) = ? AND ROUND(balance * ?, 2) > 0
+            ORDER BY account_number
+        """;
+        List<Transaction> interest = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setDouble(1, rate);
+            ps.setLong(2, afterAccountNumber);
+            ps.setLong(3, upToAccountNumber);
+            ps.setString(4, accountType);
+            ps.setDouble(5, rate);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Transaction txn = new Transaction();
+                    txn.setAccountNumber(rs.getLong("account_number"));
+                    txn.setTransactionType("INTEREST");
+                    txn.setAmount(rs.getDouble("interest"));
+                    interest.add(txn);
+                }
+            }
+        }
+        return interest;
+    }
+
+    // ──── APPLY the same interest with one set-based UPDATE — returns the accounts credited ────
+
+    public int applyInterest(long afterAccountNumber, long upToAccountNumber, String accountType,
+                             double rate) throws SQLException {
+        String sql = """
+            UPDATE accounts SET balance = balance + ROUND(balance * ?, 2)
+            WHERE account_number > ? AND account_number <= ? AND UPPER(account_type) = ? AND ROUND(balance * ?, 2) > 0
+        """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setDouble(1, rate);
+            ps.setLong(2, afterAccountNumber);
+            ps.setLong(3, upToAccountNumber);
+            ps.setString(4, accountType);
+            ps.setDouble(5, rate);
+            return ps.executeUpdate();
+        }
+    }
+
+    // ──── LOCK a set of accounts (SELECT ... FOR UPDATE) and return them by number ────
+
+    public Map<Long, Account> lockAccounts(Collection<Long> accountNumbers) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(accountNumbers.size(), "?"));
+        String sql = "SELECT * FROM accounts WHERE account_number IN (" + placeholders + ") FOR UPDATE";
+        Map<Long, Account> accounts = new HashMap<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            int i = 1;
+            for (long accountNumber : accountNumbers) {
+                ps.setLong(i++, accountNumber);
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Account acc = mapRowToAccount(rs);
+                    accounts.put(acc.getAccountNumber(), acc);
+                }
+            }
+        }
+        return accounts;
+    }
+
+    // ──── APPLY balance deltas in one JDBC batch (in-database, no read-modify-write race) ────
+    // DEPOSIT adds the amount; WITHDRAW subtracts it only if the balance covers it.
+    // Returns one update count per transaction: 0 means not found or insufficient balance.
+
+    public int[] applyBalanceDeltas(List<Transaction> txns) throws SQLException {
+        String sql = "UPDATE accounts SET balance = balance + ? WHERE account_number = ? AND (? > 0 OR balance >= ?)";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (Transaction txn : txns) {
+                double delta = "WITHDRAW".equals(txn.getTransactionType()) ? -txn.getAmount() : txn.getAmount();
+                ps.setDouble(1, delta);
+                ps.setLong(2, txn.getAccountNumber());
+                ps.setDouble(3, delta);
+                ps.setDouble(4, -delta);
+                ps.addBatch();
+            }
+            return ps.executeBatch();
         }
     }
 
@@ -82,7 +270,7 @@ public class AccountRepository {
     public Account update(long accountNumber, Account updated) throws SQLException {
         String sql = "UPDATE accounts SET holder_name = ?, account_type = ? WHERE account_number = ?";
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, updated.getHolderName());
             ps.setString(2, updated.getAccountType());
@@ -99,7 +287,7 @@ public class AccountRepository {
     public boolean delete(long accountNumber) throws SQLException {
         String sql = "DELETE FROM accounts WHERE account_number = ?";
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setLong(1, accountNumber);
             return ps.executeUpdate() > 0;    // true if a row was deleted
@@ -112,7 +300,7 @@ public class AccountRepository {
         String sql = "SELECT * FROM accounts WHERE LOWER(holder_name) LIKE ?";
         List<Account> accounts = new ArrayList<>();
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, "%" + keyword.toLowerCase() + "%");
 
@@ -131,7 +319,7 @@ public class AccountRepository {
         String sql = "SELECT * FROM accounts WHERE UPPER(account_type) = ?";
         List<Account> accounts = new ArrayList<>();
 
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setString(1, type.toUpperCase());
 
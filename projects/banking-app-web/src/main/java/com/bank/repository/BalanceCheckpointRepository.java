@@ -0,0 +1,110 @@
+package com.bank.repository;
+
+import com.bank.model.BalanceCheckpoint;
+
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+
+/**
+ * JDBC repository for balance_checkpoints — per-account balances at past moments.
+ * An as-of balance starts from the nearest checkpoint and replays only the journal
+ * rows between the two, so its cost does not grow with the age of the account.
+ */
+@Repository
+public class BalanceCheckpointRepository {
+
+    private final DataSource dataSource;
+
+    public BalanceCheckpointRepository(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    }
+
+    // ──── CHECKPOINT the accounts in (after, upTo] that moved since their last checkpoint ────
+    // One set-based INSERT: an account is checkpointed when it has none yet or its journal
+    // row count (from the running totals) differs from the one its last checkpoint saw.
+    // The caller must hold the journal still, so the balances match every row up to "at".
+
+    public int checkpoint(long afterAccountNumber, long upToAccountNumber, Timestamp at) throws SQLException {
+        String sql = """
+            INSERT INTO balance_checkpoints (account_number, checkpoint_at, balance, txn_count)
+            SELECT a.account_number, ?, a.balance, COALESCE(t.n, 0)
+            FROM accounts a
+            LEFT JOIN (SELECT account_number, SUM(txn_count) AS n FROM account_transaction_totals
+                       WHERE account_number > ? AND account_number <= ? GROUP BY account_number) t
+                ON t.account_number = a.account_number
+            WHERE a.account_number > ? AND a.account_number <= ?
+              AND COALESCE(t.n, 0) IS DISTINCT FROM (SELECT c.txn_count FROM balance_checkpoints c
+                                                     WHERE c.account_number = a.account_number
+                                                     ORDER BY c.checkpoint_at DESC LIMIT 1)
+        """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setTimestamp(1, at);
+            ps.setLong(2, afterAccountNumber);
+            ps.setLong(3, upToAccountNumber);
+            ps.setLong(4, afterAccountNumber);
+            ps.setLong(5, upToAccountNumber);
+            return ps.executeUpdate();
+        }
+    }
+
+    // ──── FIND the latest checkpoint at or before a moment ────
+
+    public BalanceCheckpoint findLatestAtOrBefore(long accountNumber, Timestamp at) throws SQLException {
+        return findOne("""
+            SELECT * FROM balance_checkpoints WHERE account_number = ? AND checkpoint_at <= ?
+            ORDER BY checkpoint_at DESC LIMIT 1
+        """, accountNumber, at);
+    }
+
+    // ──── FIND the earliest checkpoint after a moment ────
+
+    public BalanceCheckpoint findEarliestAfter(long accountNumber, Timestamp at) throws SQLException {
+        return findOne("""
+            SELECT * FROM balance_checkpoints WHERE account_number = ? AND checkpoint_at > ?
+            ORDER BY checkpoint_at LIMIT 1
+        """, accountNumber, at);
+    }
+
+    // ──── DELETE one account's checkpoints (the account is being deleted) ────
+
+    public void deleteByAccountNumber(long accountNumber) throws SQLException {
+        String sql = "DELETE FROM balance_checkpoints WHERE account_number = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, accountNumber);
+            ps.executeUpdate();
+        }
+    }
+
+    // ──── HELPERS ────
+
+    private BalanceCheckpoint findOne(String sql, long accountNumber, Timestamp at) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, accountNumber);
+            ps.setTimestamp(2, at);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return mapRowToCheckpoint(rs);
+                }
+                return null;    // none on that side
+            }
+        }
+    }
+
+    private BalanceCheckpoint mapRowToCheckpoint(ResultSet rs) throws SQLException {
+        return new BalanceCheckpoint(
+                rs.getLong("account_number"),
+                rs.getTimestamp("checkpoint_at").toString(),
+                rs.getDouble("balance"),
+                rs.getLong("txn_count")
+        );
+    }
+}
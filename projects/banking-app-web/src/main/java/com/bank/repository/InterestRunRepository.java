@@ -0,0 +1,135 @@
+package com.bank.repository;
+
+import com.bank.model.InterestRun;
+
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC repository for interest accrual progress (interest_runs, one row per month).
+ * Progress is advanced inside each chunk's transaction, so it always matches
+ * the accounts that were actually credited.
+ */
+@Repository
+public class InterestRunRepository {
+
+    private final DataSource dataSource;
+
+    public InterestRunRepository(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    }
+
+    // ──── START a month's run — a FAILED run is restarted where it stopped, RUNNING and DONE are kept ────
+
+    public void start(String month, double rate, long endAccountNumber) throws SQLException {
+        String sql = """
+            MERGE INTO interest_runs r
+            USING (VALUES (CAST(? AS CHAR(7)), CAST(? AS DOUBLE), CAST(? AS BIGINT))) AS s(run_month, rate, end_account_number)
+            ON r.run_month = s.run_month
+            WHEN MATCHED AND r.status = 'FAILED' THEN UPDATE SET status = 'RUNNING', error = NULL, updated_at = CURRENT_TIMESTAMP
+            WHEN NOT MATCHED THEN INSERT (run_month, status, rate, last_account_number, end_account_number, accounts_credited, interest_total)
+                VALUES (s.run_month, 'RUNNING', s.rate, ?, s.end_account_number, 0, 0)
+        """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, month);
+            ps.setDouble(2, rate);
+            ps.setLong(3, endAccountNumber);
+            ps.setLong(4, Long.MIN_VALUE);    // nothing credited yet
+            ps.executeUpdate();
+        }
+    }
+
+    // ──── ADVANCE past one committed chunk ────
+
+    public void advance(String month, long lastAccountNumber, long credited, double interest) throws SQLException {
+        String sql = """
+            UPDATE interest_runs SET last_account_number = ?, accounts_credited = accounts_credited + ?,
+                interest_total = interest_total + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE run_month = ?
+        """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, lastAccountNumber);
+            ps.setLong(2, credited);
+            ps.setDouble(3, interest);
+            ps.setString(4, month);
+            ps.executeUpdate();
+        }
+    }
+
+    // ──── FINISH — DONE, or FAILED with the reason ────
+
+    public void finish(String month, String status, String error) throws SQLException {
+        String sql = "UPDATE interest_runs SET status = ?, error = ?, updated_at = CURRENT_TIMESTAMP WHERE run_month = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, status);
+            ps.setString(2, error);
+            ps.setString(3, month);
+            ps.executeUpdate();
+        }
+    }
+
+    // ──── READ (by month) ────
+
+    public InterestRun findByMonth(String month) throws SQLException {
+        String sql = "SELECT * FROM interest_runs WHERE run_month = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, month);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return mapRowToRun(rs);
+                }
+                return null;    // not found
+            }
+        }
+    }
+
+    // ──── READ (by status — RUNNING runs are resumed at startup) ────
+
+    public List<InterestRun> findByStatus(String status) throws SQLException {
+        String sql = "SELECT * FROM interest_runs WHERE status = ? ORDER BY run_month";
+        List<InterestRun> runs = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, status);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    runs.add(mapRowToRun(rs));
+                }
+            }
+        }
+        return runs;
+    }
+
+    // ──── HELPER: map a ResultSet row to an InterestRun object ────
+
+    private InterestRun mapRowToRun(ResultSet rs) throws SQLException {
+        return new InterestRun(
+                rs.getString("run_month"),
+                rs.getString("status"),
+                rs.getDouble("rate"),
+                rs.getLong("last_account_number"),
+                rs.getLong("end_account_number"),
+                rs.getLong("accounts_credited"),
+                rs.getDouble("interest_total"),
+                rs.getTimestamp("started_at").toString(),
+                rs.getTimestamp("updated_at").toString(),
+                rs.getString("error")
+        );
+    }
+}
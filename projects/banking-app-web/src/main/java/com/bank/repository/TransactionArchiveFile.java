@@ -0,0 +1,130 @@
+package com.bank.repository;
+
+import com.bank.model.Transaction;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressed archive of one transaction partition: gzip'd CSV lines of
+ * transaction_id,account_number,transaction_type,amount,transaction_date
+ * in history-index order (account_number, then newest first), so reading one
+ * account's page stops as soon as the scan has passed that account.
+ * Deleting an account rewrites the files holding its rows without them (removeAccount).
+ */
+public final class TransactionArchiveFile {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private TransactionArchiveFile() {
+    }
+
+    // ──── WRITE rows (already in history-index order) — to a temp file, moved into place when complete ────
+
+    public static long write(Path file, ResultSet rs) throws SQLException, IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long rows = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            while (rs.next()) {
+                writer.write(rs.getInt("transaction_id") + "," + rs.getLong("account_number") + ","
+                        + rs.getString("transaction_type") + "," + rs.getDouble("amount") + ","
+                        + rs.getTimestamp("transaction_date") + "\n");
+                rows++;
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return rows;
+    }
+
+    // ──── REMOVE one account's rows — rewritten to a temp file, moved into place; [0] = rows kept, [1] = removed ────
+    // Leaves the file untouched if it holds no rows of the account (safe to repeat after a crash)
+
+    public static long[] removeAccount(Path file, long accountNumber) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long[] counts = new long[2];
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int from = line.indexOf(',') + 1;
+                if (Long.parseLong(line.substring(from, line.indexOf(',', from))) == accountNumber) {
+                    counts[1]++;
+                } else {
+                    writer.write(line);
+                    writer.write('\n');
+                    counts[0]++;
+                }
+            }
+        }
+        if (counts[1] == 0) {
+            Files.delete(temp);
+        } else {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return counts;
+    }
+
+    // ──── READ one history page — same filters and order as TransactionRepository.findHistoryPage ────
+
+    public static List<Transaction> findHistoryPage(Path file, long accountNumber, Timestamp beforeDate, int beforeId,
+                                                    Timestamp fromDate, String type, int limit) throws IOException {
+        List<Transaction> page = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            String line;
+            while (page.size() < limit && (line = reader.readLine()) != null) {
+                String[] f = line.split(",", 5);
+                long account = Long.parseLong(f[1]);
+                if (account < accountNumber) continue;
+                if (account > accountNumber) break;    // past this account's rows
+
+                Timestamp date = Timestamp.valueOf(f[4]);
+                int id = Integer.parseInt(f[0]);
+                if (date.after(beforeDate) || (date.equals(beforeDate) && id >= beforeId)) continue;
+                if (fromDate != null && date.before(fromDate)) break;    // older rows only from here on
+                if (type != null && !type.equals(f[2])) continue;
+
+                page.add(new Transaction(id, account, f[2], Double.parseDouble(f[3]), date.toString()));
+            }
+        }
+        return page;
+    }
+
+    // ──── SUM one account's balance deltas dated in (after, upTo] — same as TransactionRepository.sumBalanceDeltas ────
+
+    public static double[] sumBalanceDeltas(Path file, long accountNumber, Timestamp after, Timestamp upTo) throws IOException {
+        double[] sum = new double[2];
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] f = line.split(",", 5);
+                long account = Long.parseLong(f[1]);
+                if (account < accountNumber) continue;
+                if (account > accountNumber) break;    // past this account's rows
+
+                Timestamp date = Timestamp.valueOf(f[4]);
+                if (date.after(upTo)) continue;
+                if (!date.after(after)) break;    // older rows only from here on
+
+                double amount = Double.parseDouble(f[3]);
+                sum[0] += "WITHDRAW".equals(f[2]) ? -amount : amount;
+                sum[1]++;
+            }
+        }
+        return sum;
+    }
+}
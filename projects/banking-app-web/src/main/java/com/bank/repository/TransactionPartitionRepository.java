@@ -0,0 +1,251 @@
+package com.bank.repository;
+
+import com.bank.model.TransactionPartition;
+
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Monthly partitions of the transaction journal: one table per month
+ * (transactions_YYYYMM, with its own history index and a CHECK on its date range),
+ * catalogued in transaction_partitions and cached here.
+ * Transaction ids come from one shared sequence, so they stay unique across partitions.
+ *
+ * TransactionRepository routes every read to the months it needs (partition pruning).
+ * Partition DDL auto-commits in H2, so it runs on its own pooled connection, never inside
+ * a caller's transaction — writers create a month's table before opening theirs.
+ * The "transactions" view (UNION ALL of the ONLINE partitions) is kept for set-based
+ * maintenance like the totals rebuild, and for ad-hoc queries in the H2 console.
+ */
+@Repository
+public class TransactionPartitionRepository {
+
+    private static final DateTimeFormatter TABLE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final DataSource dataSource;
+    private final NavigableMap<YearMonth, TransactionPartition> partitions = new ConcurrentSkipListMap<>();
+
+    public TransactionPartitionRepository(DataSource dataSource) {
+        this.dataSource = dataSource;    // not transaction-aware — see class comment
+    }
+
+    // ──── LOAD the catalog — called by DatabaseManager once the schema exists ────
+    // ensureIndexes re-creates missing partition indexes (after a schema change); a warm restart skips it
+
+    public synchronized void load(boolean ensureIndexes) throws SQLException {
+        partitions.clear();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT * FROM transaction_partitions");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                TransactionPartition p = mapRowToPartition(rs);
+                partitions.put(YearMonth.parse(p.getMonth()), p);
+            }
+        }
+        if (ensureIndexes) {
+            try (Connection conn = dataSource.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                for (TransactionPartition p : partitions.values()) {
+                    if (!p.isArchived()) createIndexes(stmt, p.getTableName());    // partitions from before an index was added
+                }
+            }
+        }
+        tableFor(YearMonth.now());                  // the month new transactions go to
+        tableFor(YearMonth.now().plusMonths(1));    // and the next, so month-end needs no DDL
+        refreshView();
+    }
+
+    // ──── ROUTE a write: the month's table, created on first use ────
+
+    public String tableFor(YearMonth month) throws SQLException {
+        TransactionPartition p = partitions.get(month);
+        if (p == null) p = create(month);
+        if (p.isArchived()) throw new IllegalStateException("Partition " + month + " is archived");
+        return p.getTableName();
+    }
+
+    // ──── PRUNE a read: partitions from newest to oldest, within [from, to] (null = open) ────
+
+    public Collection<TransactionPartition> newestFirst(YearMonth from, YearMonth to) {
+        NavigableMap<YearMonth, TransactionPartition> range = partitions;
+        if (to != null) range = range.headMap(to, true);
+        if (from != null) range = range.tailMap(from, true);
+        return range.descendingMap().values();
+    }
+
+    public List<TransactionPartition> onlineNewestFirst() {
+        List<TransactionPartition> online = new ArrayList<>();
+        for (TransactionPartition p : partitions.descendingMap().values()) {
+            if (!p.isArchived()) online.add(p);
+        }
+        return online;
+    }
+
+    public TransactionPartition find(YearMonth month) {
+        return partitions.get(month);
+    }
+
+    public List<TransactionPartition> findAll() {
+        return new ArrayList<>(partitions.values());
+    }
+
+    // ──── EXPORT a month to an archive file, in history-index order — returns the rows written ────
+
+    public long exportTo(YearMonth month, Path file) throws SQLException, IOException {
+        String sql = "SELECT * FROM " + tableOf(month) + " ORDER BY account_number, transaction_date DESC, transaction_id DESC";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setFetchSize(1000);
+            try (ResultSet rs = ps.executeQuery()) {
+                return TransactionArchiveFile.write(file, rs);
+            }
+        }
+    }
+
+    // ──── COUNT the rows of an online month ────
+
+    public long countRows(YearMonth month) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + tableOf(month))) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // ──── ARCHIVE: record the archive file, take the table out of the view and drop it ────
+
+    public synchronized void markArchived(YearMonth month, String archiveFile, long rows) throws SQLException {
+        TransactionPartition p = partitions.get(month);
+        String sql = "UPDATE transaction_partitions SET status = 'ARCHIVED', archived_rows = ?, archive_file = ? WHERE partition_month = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, rows);
+            ps.setString(2, archiveFile);
+            ps.setString(3, month.toString());
+            ps.executeUpdate();
+        }
+        partitions.put(month, new TransactionPartition(p.getMonth(), p.getTableName(), "ARCHIVED", rows, archiveFile));
+        refreshView();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS " + p.getTableName());
+        }
+    }
+
+    // ──── RECOUNT an archived partition whose file was rewritten (an account's rows removed) ────
+
+    public synchronized void updateArchivedRows(YearMonth month, long rows) throws SQLException {
+        TransactionPartition p = partitions.get(month);
+        String sql = "UPDATE transaction_partitions SET archived_rows = ? WHERE partition_month = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, rows);
+            ps.setString(2, month.toString());
+            ps.executeUpdate();
+        }
+        partitions.put(month, new TransactionPartition(p.getMonth(), p.getTableName(), p.getStatus(), rows, p.getArchiveFile()));
+    }
+
+    public static YearMonth monthOf(Timestamp timestamp) {
+        return YearMonth.from(timestamp.toLocalDateTime());
+    }
+
+    // ──── HELPERS ────
+
+    // An existing month's table, for reads and maintenance — never creates one
+    private String tableOf(YearMonth month) {
+        TransactionPartition p = partitions.get(month);
+        if (p == null) throw new IllegalArgumentException("No partition for " + month);
+        if (p.isArchived()) throw new IllegalStateException("Partition " + month + " is archived");
+        return p.getTableName();
+    }
+
+    private synchronized TransactionPartition create(YearMonth month) throws SQLException {
+        TransactionPartition existing = partitions.get(month);
+        if (existing != null) return existing;
+
+        String table = "transactions_" + month.format(TABLE_SUFFIX);
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS %s (
+                    transaction_id INT DEFAULT NEXT VALUE FOR transaction_id_seq PRIMARY KEY,
+                    account_number BIGINT NOT NULL,
+                    transaction_type VARCHAR(20) NOT NULL,
+                    amount DOUBLE NOT NULL,
+                    transaction_date TIMESTAMP NOT NULL,
+                    CHECK (transaction_date >= TIMESTAMP '%s-01 00:00:00' AND transaction_date < TIMESTAMP '%s-01 00:00:00'),
+                    FOREIGN KEY (account_number) REFERENCES accounts(account_number)
+                )
+            """.formatted(table, month, month.plusMonths(1)));
+            createIndexes(stmt, table);
+            stmt.execute("MERGE INTO transaction_partitions (partition_month, table_name, status, archived_rows) KEY (partition_month) "
+                    + "VALUES ('" + month + "', '" + table + "', 'ONLINE', 0)");
+        }
+
+        TransactionPartition p = new TransactionPartition(month.toString(), table, "ONLINE", 0, null);
+        partitions.put(month, p);
+        refreshView();
+        return p;
+    }
+
+    // The composite indexes every partition carries — each search path in TransactionRepository
+    // is an index range on one of them (USE INDEX picks it), never a scan of the partition
+    private static void createIndexes(Statement stmt, String table) throws SQLException {
+        // Per-account history (newest first) — findHistoryPage, and searches by account set
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_%s_account_date
+            ON %s (account_number, transaction_date DESC, transaction_id DESC)
+        """.formatted(table, table));
+        // One type, newest first — searches by type without accounts
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_%s_type_date
+            ON %s (transaction_type, transaction_date DESC, transaction_id DESC)
+        """.formatted(table, table));
+        // Amount range — searches by amount without accounts; only the rows in the range are read, then sorted
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_%s_amount_date
+            ON %s (amount, transaction_date DESC, transaction_id DESC)
+        """.formatted(table, table));
+        // Newest first — searches by date window only (the page LIMIT ends the range)
+        stmt.execute("""
+            CREATE INDEX IF NOT EXISTS idx_%s_date
+            ON %s (transaction_date DESC, transaction_id DESC)
+        """.formatted(table, table));
+    }
+
+    private synchronized void refreshView() throws SQLException {
+        List<String> selects = new ArrayList<>();
+        for (TransactionPartition p : partitions.values()) {
+            if (!p.isArchived()) selects.add("SELECT * FROM " + p.getTableName());
+        }
+        if (selects.isEmpty()) return;
+
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE OR REPLACE VIEW transactions AS " + String.join(" UNION ALL ", selects));
+        }
+    }
+
+    private TransactionPartition mapRowToPartition(ResultSet rs) throws SQLException {
+        return new TransactionPartition(
+                rs.getString("partition_month"),
+                rs.getString("table_name"),
+                rs.getString("status"),
+                rs.getLong("archived_rows"),
+                rs.getString("archive_file")
+        );
+    }
+}
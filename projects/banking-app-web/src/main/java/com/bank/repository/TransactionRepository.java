@@ -1,44 +1,160 @@
 package com.bank.repository;
 
-import com.bank.config.DatabaseManager;
 import com.bank.model.Transaction;
+import com.bank.model.TransactionPartition;
+import com.bank.model.TransactionSearchCriteria;
 
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.YearMonth;
+import java.util.*;
 
 /**
  * JDBC repository for Transaction operations.
  * All methods use PreparedStatement with ? placeholders and try-with-resources.
+ * Connections are borrowed from the shared pool and returned on close().
+ * Inside a @Transactional service method every call joins the same connection.
+ *
+ * The journal is partitioned by month (see TransactionPartitionRepository): writes go to
+ * the table of the transaction's month, reads visit only the months they can match,
+ * newest first, and history pages of archived months are read from their archive files.
  */
+@Repository
 public class TransactionRepository {
 
+    private final DataSource dataSource;
+    private final TransactionPartitionRepository partitions;
+
+    public TransactionRepository(DataSource dataSource, TransactionPartitionRepository partitions) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+        this.partitions = partitions;
+    }
+
+    // ──── STAMP: the commit time for new journal rows, with its partition created ────
+    // Call before opening the transaction that inserts them: creating a partition is DDL,
+    // which H2 commits on its own connection.
+
+    public Timestamp stamp() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        partitions.tableFor(TransactionPartitionRepository.monthOf(now));
+        return now;
+    }
+
     // ──── INSERT a transaction ────
 
     public void insert(Transaction txn) throws SQLException {
-        String sql = """
-            INSERT INTO transactions (account_number, transaction_type, amount)
-            VALUES (?, ?, ?)
-        """;
+        insertBatch(List.of(txn));
+    }
 
-        try (Connection conn = DatabaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setLong(1, txn.getAccountNumber());
-            ps.setString(2, txn.getTransactionType());
-            ps.setDouble(3, txn.getAmount());
-            ps.executeUpdate();
+    // ──── INSERT many transactions — one JDBC batch per month they fall in ────
+
+    public void insertBatch(List<Transaction> txns) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Map<String, List<Transaction>> byTable = new TreeMap<>();
+        Map<Transaction, Timestamp> dates = new IdentityHashMap<>();
+        for (Transaction txn : txns) {
+            Timestamp date = txn.getTransactionDate() != null ? Timestamp.valueOf(txn.getTransactionDate()) : now;
+            dates.put(txn, date);
+            byTable.computeIfAbsent(partitions.tableFor(TransactionPartitionRepository.monthOf(date)),
+                    t -> new ArrayList<>()).add(txn);
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            for (Map.Entry<String, List<Transaction>> e : byTable.entrySet()) {
+                String sql = "INSERT INTO " + e.getKey()
+                        + " (account_number, transaction_type, amount, transaction_date) VALUES (?, ?, ?, ?)";
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (Transaction txn : e.getValue()) {
+                        ps.setLong(1, txn.getAccountNumber());
+                        ps.setString(2, txn.getTransactionType());
+                        ps.setDouble(3, txn.getAmount());
+                        ps.setTimestamp(4, dates.get(txn));
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+            }
         }
     }
 
-    // ──── FIND transactions by account number ────
+    // ──── FIND transactions by account number (online partitions, newest first) ────
 
     public List<Transaction> findByAccountNumber(long accountNumber) throws SQLException {
-        String sql = "SELECT * FROM transactions WHERE account_number = ? ORDER BY transaction_date DESC";
         List<Transaction> transactions = new ArrayList<>();
 
-        try (Connection conn = DatabaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setLong(1, accountNumber);
+        try (Connection conn = dataSource.getConnection()) {
+            for (TransactionPartition p : partitions.onlineNewestFirst()) {
+                String sql = "SELECT * FROM " + p.getTableName() + " WHERE account_number = ? ORDER BY transaction_date DESC";
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setLong(1, accountNumber);
+
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            transactions.add(mapRowToTransaction(rs));
+                        }
+                    }
+                }
+            }
+        }
+        return transactions;
+    }
+
+    // ──── FIND one page of an account's history (newest first, keyset continuation) ────
+    // Returns rows strictly older than (beforeDate, beforeId), optionally filtered by
+    // fromDate (inclusive) and type. Only the months between fromDate and beforeDate are
+    // visited; each online one is an index range on its idx_<partition>_account_date.
+
+    public List<Transaction> findHistoryPage(long accountNumber, Timestamp beforeDate, int beforeId,
+                                             Timestamp fromDate, String type, int limit) throws SQLException {
+        YearMonth from = fromDate != null ? TransactionPartitionRepository.monthOf(fromDate) : null;
+        YearMonth to = TransactionPartitionRepository.monthOf(beforeDate);
+        List<Transaction> transactions = new ArrayList<>();
+
+        for (TransactionPartition p : partitions.newestFirst(from, to)) {
+            int remaining = limit - transactions.size();
+            if (remaining == 0) break;
+            if (p.isArchived()) {
+                try {
+                    transactions.addAll(TransactionArchiveFile.findHistoryPage(Path.of(p.getArchiveFile()),
+                            accountNumber, beforeDate, beforeId, fromDate, type, remaining));
+                } catch (IOException e) {
+                    throw new SQLException("Error reading archive " + p.getArchiveFile(), e);
+                }
+            } else {
+                transactions.addAll(findHistoryPage(p.getTableName(), accountNumber, beforeDate, beforeId,
+                        fromDate, type, remaining));
+            }
+        }
+        return transactions;
+    }
+
+    private List<Transaction> findHistoryPage(String table, long accountNumber, Timestamp beforeDate, int beforeId,
+                                              Timestamp fromDate, String type, int limit) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT * FROM " + table + """
+             WHERE account_number = ?
+              AND transaction_date <= ? AND (transaction_date < ? OR transaction_id < ?)
+            """);
+        if (fromDate != null) sql.append(" AND transaction_date >= ?");
+        if (type != null) sql.append(" AND transaction_type = ?");
+        sql.append(" ORDER BY account_number, transaction_date DESC, transaction_id DESC LIMIT ?");
+
+        List<Transaction> transactions = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            int i = 1;
+            ps.setLong(i++, accountNumber);
+            ps.setTimestamp(i++, beforeDate);
+            ps.setTimestamp(i++, beforeDate);
+            ps.setInt(i++, beforeId);
+            if (fromDate != null) ps.setTimestamp(i++, fromDate);
+            if (type != null) ps.setString(i++, type);
+            ps.setInt(i, limit);
 
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -49,50 +165,222 @@ public class TransactionRepository {
         return transactions;
     }
 
-    // ──── FIND all transactions ────
+    // ──── SEARCH by any mix of account set, type, amount range and date window (keyset page, newest first) ────
+    // Visits the online months of the window, newest first. Each query is pinned (USE INDEX)
+    // to the composite index that leads with its most selective filter — account set, else
+    // amount range, else type, else date — and the keyset bound makes it a range on that index;
+    // the remaining filters are checked on the rows the range yields. Archived months are not searched.
 
-    public List<Transaction> findAll() throws SQLException {
-        String sql = "SELECT * FROM transactions ORDER BY transaction_date DESC";
+    public List<Transaction> search(TransactionSearchCriteria criteria, Timestamp beforeDate, int beforeId,
+                                    int limit) throws SQLException {
         List<Transaction> transactions = new ArrayList<>();
 
-        try (Connection conn = DatabaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
+        try (Connection conn = dataSource.getConnection()) {
+            for (TransactionPartition p : searchPartitions(criteria, beforeDate)) {
+                int remaining = limit - transactions.size();
+                if (remaining == 0) break;
 
-            while (rs.next()) {
-                transactions.add(mapRowToTransaction(rs));
+                try (PreparedStatement ps = prepareSearch(conn, "", p.getTableName(), criteria, beforeDate, beforeId, remaining);
+                     ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        transactions.add(mapRowToTransaction(rs));
+                    }
+                }
             }
         }
         return transactions;
     }
 
-    // ──── GET total amount by transaction type (SUM query) ────
+    // ──── EXPLAIN ANALYZE the queries a search runs — one plan per partition, with its scanCount ────
+    // Runs the queries, so the plans report the rows each index range actually read.
+
+    public List<String> explainSearch(TransactionSearchCriteria criteria, Timestamp beforeDate, int beforeId,
+                                      int limit) throws SQLException {
+        List<String> plans = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection()) {
+            for (TransactionPartition p : searchPartitions(criteria, beforeDate)) {
+                try (PreparedStatement ps = prepareSearch(conn, "EXPLAIN ANALYZE ", p.getTableName(), criteria, beforeDate, beforeId, limit);
+                     ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    plans.add(rs.getString(1));
+                }
+            }
+        }
+        return plans;
+    }
+
+    private List<TransactionPartition> searchPartitions(TransactionSearchCriteria criteria, Timestamp beforeDate) {
+        YearMonth from = criteria.getFrom() != null ? YearMonth.from(criteria.getFrom()) : null;
+        List<TransactionPartition> online = new ArrayList<>();
+        for (TransactionPartition p : partitions.newestFirst(from, TransactionPartitionRepository.monthOf(beforeDate))) {
+            if (!p.isArchived()) online.add(p);
+        }
+        return online;
+    }
 
-    public double getTotalByType(String transactionType) throws SQLException {
-        String sql = "SELECT COALESCE(SUM(amount), 0) AS total FROM transactions WHERE transaction_type = ?";
+    private PreparedStatement prepareSearch(Connection conn, String prefix, String table, TransactionSearchCriteria criteria,
+                                            Timestamp beforeDate, int beforeId, int limit) throws SQLException {
+        List<Long> accounts = criteria.getAccountNumbers();
+        boolean amountRange = criteria.getMinAmount() != null || criteria.getMaxAmount() != null;
+        String index = !accounts.isEmpty() ? "account_date"
+                : amountRange ? "amount_date"
+                : criteria.getType() != null ? "type_date" : "date";
 
-        try (Connection conn = DatabaseManager.getConnection();
+        StringBuilder sql = new StringBuilder(prefix + "SELECT * FROM " + table + " USE INDEX (idx_" + table + "_" + index + ")"
+                + " WHERE transaction_date <= ? AND (transaction_date < ? OR transaction_id < ?)");
+        if (!accounts.isEmpty()) {
+            sql.append(" AND account_number IN (").append(String.join(", ", Collections.nCopies(accounts.size(), "?"))).append(")");
+        }
+        if (criteria.getType() != null) sql.append(" AND transaction_type = ?");
+        if (criteria.getMinAmount() != null) sql.append(" AND amount >= ?");
+        if (criteria.getMaxAmount() != null) sql.append(" AND amount <= ?");
+        if (criteria.getFrom() != null) sql.append(" AND transaction_date >= ?");
+        sql.append(" ORDER BY transaction_date DESC, transaction_id DESC LIMIT ?");
+
+        PreparedStatement ps = conn.prepareStatement(sql.toString());
+        int i = 1;
+        ps.setTimestamp(i++, beforeDate);
+        ps.setTimestamp(i++, beforeDate);
+        ps.setInt(i++, beforeId);
+        for (long accountNumber : accounts) {
+            ps.setLong(i++, accountNumber);
+        }
+        if (criteria.getType() != null) ps.setString(i++, criteria.getType());
+        if (criteria.getMinAmount() != null) ps.setDouble(i++, criteria.getMinAmount());
+        if (criteria.getMaxAmount() != null) ps.setDouble(i++, criteria.getMaxAmount());
+        if (criteria.getFrom() != null) ps.setTimestamp(i++, Timestamp.valueOf(criteria.getFrom().atStartOfDay()));
+        ps.setInt(i, limit);
+        return ps;
+    }
+
+    // ──── SUM one account's balance deltas dated in (after, upTo] — {signed amount, row count} ────
+    // WITHDRAW counts negative, everything else positive (the JournalWriter's arithmetic).
+    // Only the months of the range are visited; archived months are summed from their files.
+
+    public double[] sumBalanceDeltas(long accountNumber, Timestamp after, Timestamp upTo) throws SQLException {
+        double[] sum = new double[2];
+
+        for (TransactionPartition p : partitions.newestFirst(TransactionPartitionRepository.monthOf(after),
+                TransactionPartitionRepository.monthOf(upTo))) {
+            double[] part;
+            if (p.isArchived()) {
+                try {
+                    part = TransactionArchiveFile.sumBalanceDeltas(Path.of(p.getArchiveFile()), accountNumber, after, upTo);
+                } catch (IOException e) {
+                    throw new SQLException("Error reading archive " + p.getArchiveFile(), e);
+                }
+            } else {
+                part = sumBalanceDeltas(p.getTableName(), accountNumber, after, upTo);
+            }
+            sum[0] += part[0];
+            sum[1] += part[1];
+        }
+        return sum;
+    }
+
+    private double[] sumBalanceDeltas(String table, long accountNumber, Timestamp after, Timestamp upTo) throws SQLException {
+        String sql = "SELECT COALESCE(SUM(CASE WHEN transaction_type = 'WITHDRAW' THEN -amount ELSE amount END), 0), COUNT(*)"
+                + " FROM " + table + " WHERE account_number = ? AND transaction_date > ? AND transaction_date <= ?";
+
+        try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, transactionType);
+            ps.setLong(1, accountNumber);
+            ps.setTimestamp(2, after);
+            ps.setTimestamp(3, upTo);
 
             try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getDouble("total");
+                rs.next();
+                return new double[] {rs.getDouble(1), rs.getLong(2)};
+            }
+        }
+    }
+
+    // ──── FIND all transactions (online partitions, newest first) ────
+
+    public List<Transaction> findAll() throws SQLException {
+        List<Transaction> transactions = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection()) {
+            for (TransactionPartition p : partitions.onlineNewestFirst()) {
+                String sql = "SELECT * FROM " + p.getTableName() + " ORDER BY transaction_date DESC";
+                try (PreparedStatement ps = conn.prepareStatement(sql);
+                     ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        transactions.add(mapRowToTransaction(rs));
+                    }
                 }
-                return 0;
             }
         }
+        return transactions;
     }
 
-    // ──── DELETE transactions by account number (used before deleting an account) ────
+    // ──── DELETE an account's rows dated from `since` on — the few journaled while its delete ran ────
+    // Only the online months from since's month on are visited; returns the rows deleted
 
-    public void deleteByAccountNumber(long accountNumber) throws SQLException {
-        String sql = "DELETE FROM transactions WHERE account_number = ?";
+    public int deleteSince(long accountNumber, Timestamp since) throws SQLException {
+        int deleted = 0;
 
-        try (Connection conn = DatabaseManager.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setLong(1, accountNumber);
-            ps.executeUpdate();
+        try (Connection conn = dataSource.getConnection()) {
+            for (TransactionPartition p : partitions.newestFirst(TransactionPartitionRepository.monthOf(since), null)) {
+                if (p.isArchived()) continue;
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "DELETE FROM " + p.getTableName() + " WHERE account_number = ? AND transaction_date >= ?")) {
+                    ps.setLong(1, accountNumber);
+                    ps.setTimestamp(2, since);
+                    deleted += ps.executeUpdate();
+                }
+            }
+        }
+        return deleted;
+    }
+
+    // ──── FIND the next chunk of an account's history to archive-delete (newest partition with rows first) ────
+    // A chunk never spans months: fewer than limit rows means that month is done, not the account
+
+    public List<Transaction> findChunk(long accountNumber, int limit) throws SQLException {
+        List<Transaction> transactions = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection()) {
+            for (TransactionPartition p : partitions.onlineNewestFirst()) {
+                String sql = "SELECT * FROM " + p.getTableName() + " WHERE account_number = ?"
+                        + " ORDER BY account_number, transaction_date DESC, transaction_id DESC LIMIT ?";
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setLong(1, accountNumber);
+                    ps.setInt(2, limit);
+
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            transactions.add(mapRowToTransaction(rs));
+                        }
+                    }
+                }
+                if (!transactions.isEmpty()) break;
+            }
+        }
+        return transactions;
+    }
+
+    // ──── DELETE the given transactions by primary key — one JDBC batch per partition ────
+
+    public void deleteBatch(List<Transaction> txns) throws SQLException {
+        Map<String, List<Transaction>> byTable = new TreeMap<>();
+        for (Transaction txn : txns) {
+            YearMonth month = TransactionPartitionRepository.monthOf(Timestamp.valueOf(txn.getTransactionDate()));
+            byTable.computeIfAbsent(partitions.tableFor(month), t -> new ArrayList<>()).add(txn);
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            for (Map.Entry<String, List<Transaction>> e : byTable.entrySet()) {
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "DELETE FROM " + e.getKey() + " WHERE transaction_id = ?")) {
+                    for (Transaction txn : e.getValue()) {
+                        ps.setInt(1, txn.getTransactionId());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+            }
         }
     }
 
@@ -0,0 +1,244 @@
+package com.bank.repository;
+
+import com.bank.model.Transaction;
+import com.bank.model.TransactionTotal;
+
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.*;
+
+/**
+ * JDBC repository for the running transaction totals
+ * (transaction_totals per type, account_transaction_totals per account and type).
+ * Totals are adjusted in the same database transaction as the journal rows they
+ * summarize, so reading them is a primary-key lookup instead of a SUM over transactions.
+ */
+@Repository
+public class TransactionTotalsRepository {
+
+    private final DataSource dataSource;
+
+    public TransactionTotalsRepository(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    }
+
+    // ──── ADD newly journaled transactions to both totals tables (one batch each) ────
+
+    public void add(List<Transaction> txns) throws SQLException {
+        adjust(txns, 1);
+    }
+
+    // ──── SUBTRACT journal rows that are being deleted (archival delete, one chunk at a time) ────
+
+    public void subtract(List<Transaction> txns) throws SQLException {
+        adjust(txns, -1);
+    }
+
+    // ──── COUNT one account's journal rows (sum of its per-type counts — no scan) ────
+
+    public long countByAccountNumber(long accountNumber) throws SQLException {
+        String sql = "SELECT COALESCE(SUM(txn_count), 0) FROM account_transaction_totals WHERE account_number = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, accountNumber);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private void adjust(List<Transaction> txns, int sign) throws SQLException {
+        // Pre-aggregate the group in memory so each totals row is touched once
+        Map<String, double[]> byType = new TreeMap<>();
+        Map<String, double[]> byAccount = new TreeMap<>();
+        for (Transaction txn : txns) {
+            accumulate(byType, txn.getTransactionType(), sign * txn.getAmount(), sign);
+            accumulate(byAccount, txn.getAccountNumber() + "|" + txn.getTransactionType(), sign * txn.getAmount(), sign);
+        }
+
+        String typeSql = """
+            MERGE INTO transaction_totals t
+            USING (VALUES (CAST(? AS VARCHAR(20)), CAST(? AS DOUBLE), CAST(? AS BIGINT))) AS d(transaction_type, amount, n)
+            ON t.transaction_type = d.transaction_type
+            WHEN MATCHED THEN UPDATE SET total_amount = t.total_amount + d.amount, txn_count = t.txn_count + d.n
+            WHEN NOT MATCHED THEN INSERT (transaction_type, total_amount, txn_count) VALUES (d.transaction_type, d.amount, d.n)
+        """;
+        String accountSql = """
+            MERGE INTO account_transaction_totals t
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(20)), CAST(? AS DOUBLE), CAST(? AS BIGINT)))
+                AS d(account_number, transaction_type, amount, n)
+            ON t.account_number = d.account_number AND t.transaction_type = d.transaction_type
+            WHEN MATCHED THEN UPDATE SET total_amount = t.total_amount + d.amount, txn_count = t.txn_count + d.n
+            WHEN NOT MATCHED THEN INSERT (account_number, transaction_type, total_amount, txn_count)
+                VALUES (d.account_number, d.transaction_type, d.amount, d.n)
+        """;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement typePs = conn.prepareStatement(typeSql);
+             PreparedStatement accountPs = conn.prepareStatement(accountSql)) {
+            for (Map.Entry<String, double[]> e : byType.entrySet()) {
+                typePs.setString(1, e.getKey());
+                typePs.setDouble(2, e.getValue()[0]);
+                typePs.setLong(3, (long) e.getValue()[1]);
+                typePs.addBatch();
+            }
+            for (Map.Entry<String, double[]> e : byAccount.entrySet()) {
+                int sep = e.getKey().indexOf('|');
+                accountPs.setLong(1, Long.parseLong(e.getKey().substring(0, sep)));
+                accountPs.setString(2, e.getKey().substring(sep + 1));
+                accountPs.setDouble(3, e.getValue()[0]);
+                accountPs.setLong(4, (long) e.getValue()[1]);
+                accountPs.addBatch();
+            }
+            typePs.executeBatch();
+            accountPs.executeBatch();
+        }
+    }
+
+    // ──── REMOVE one account's totals (its journal rows are being deleted) ────
+
+    public void removeAccount(long accountNumber) throws SQLException {
+        String subtractSql = """
+            UPDATE transaction_totals t SET
+                total_amount = t.total_amount - (SELECT a.total_amount FROM account_transaction_totals a
+                                                 WHERE a.account_number = ? AND a.transaction_type = t.transaction_type),
+                txn_count = t.txn_count - (SELECT a.txn_count FROM account_transaction_totals a
+                                           WHERE a.account_number = ? AND a.transaction_type = t.transaction_type)
+            WHERE t.transaction_type IN (SELECT transaction_type FROM account_transaction_totals WHERE account_number = ?)
+        """;
+        String deleteSql = "DELETE FROM account_transaction_totals WHERE account_number = ?";
+        String deleteArchivedSql = "DELETE FROM archived_transaction_totals WHERE account_number = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement subtract = conn.prepareStatement(subtractSql);
+             PreparedStatement delete = conn.prepareStatement(deleteSql);
+             PreparedStatement deleteArchived = conn.prepareStatement(deleteArchivedSql)) {
+            subtract.setLong(1, accountNumber);
+            subtract.setLong(2, accountNumber);
+            subtract.setLong(3, accountNumber);
+            subtract.executeUpdate();
+            delete.setLong(1, accountNumber);
+            delete.executeUpdate();
+            deleteArchived.setLong(1, accountNumber);
+            deleteArchived.executeUpdate();
+        }
+    }
+
+    // ──── READ the archived months that hold rows of one account ────
+
+    public List<String> findArchivedMonths(long accountNumber) throws SQLException {
+        String sql = "SELECT DISTINCT partition_month FROM archived_transaction_totals WHERE account_number = ? ORDER BY partition_month";
+        List<String> months = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, accountNumber);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    months.add(rs.getString(1));
+                }
+            }
+        }
+        return months;
+    }
+
+    // ──── READ totals for every type ────
+
+    public List<TransactionTotal> findAll() throws SQLException {
+        String sql = "SELECT * FROM transaction_totals ORDER BY transaction_type";
+        List<TransactionTotal> totals = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+
+            while (rs.next()) {
+                totals.add(mapRowToTotal(rs));
+            }
+        }
+        return totals;
+    }
+
+    // ──── READ one account's totals ────
+
+    public List<TransactionTotal> findByAccountNumber(long accountNumber) throws SQLException {
+        String sql = "SELECT * FROM account_transaction_totals WHERE account_number = ? ORDER BY transaction_type";
+        List<TransactionTotal> totals = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, accountNumber);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    totals.add(mapRowToTotal(rs));
+                }
+            }
+        }
+        return totals;
+    }
+
+    // ──── REBUILD both tables from the journal (reconciliation) ────
+    // Online partitions are summed through the transactions view; archived months
+    // contribute the totals recorded when they were archived.
+
+    public void rebuild() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM account_transaction_totals");
+            stmt.executeUpdate("DELETE FROM transaction_totals");
+            stmt.executeUpdate("""
+                INSERT INTO account_transaction_totals (account_number, transaction_type, total_amount, txn_count)
+                SELECT account_number, transaction_type, SUM(total_amount), SUM(txn_count) FROM (
+                    SELECT account_number, transaction_type, SUM(amount) AS total_amount, COUNT(*) AS txn_count
+                    FROM transactions GROUP BY account_number, transaction_type
+                    UNION ALL
+                    SELECT account_number, transaction_type, total_amount, txn_count FROM archived_transaction_totals
+                ) t GROUP BY account_number, transaction_type
+            """);
+            stmt.executeUpdate("""
+                INSERT INTO transaction_totals (transaction_type, total_amount, txn_count)
+                SELECT transaction_type, SUM(total_amount), SUM(txn_count)
+                FROM account_transaction_totals GROUP BY transaction_type
+            """);
+        }
+    }
+
+    // ──── RECORD the totals of a partition that is being archived ────
+
+    public void recordArchived(String month, String partitionTable) throws SQLException {
+        String sql = """
+            INSERT INTO archived_transaction_totals (partition_month, account_number, transaction_type, total_amount, txn_count)
+            SELECT ?, account_number, transaction_type, SUM(amount), COUNT(*)
+            FROM %s GROUP BY account_number, transaction_type
+        """.formatted(partitionTable);
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, month);
+            ps.executeUpdate();
+        }
+    }
+
+    // ──── HELPERS ────
+
+    private static void accumulate(Map<String, double[]> totals, String key, double amount, int count) {
+        double[] total = totals.computeIfAbsent(key, k -> new double[2]);
+        total[0] += amount;
+        total[1] += count;
+    }
+
+    private TransactionTotal mapRowToTotal(ResultSet rs) throws SQLException {
+        return new TransactionTotal(
+                rs.getString("transaction_type"),
+                rs.getDouble("total_amount"),
+                rs.getLong("txn_count")
+        );
+    }
+}
@@ -0,0 +1,202 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * In-process, size-bounded LRU cache of accounts by account number.
+ * Split into independently locked segments (each an access-ordered LinkedHashMap)
+ * so concurrent readers of different accounts do not contend on one lock.
+ * Hit/miss/eviction counts are published as bank.account.cache.* metrics.
+ *
+ * Write paths keep it current: balance changes put the committed account
+ * (in commit order, from the JournalWriter thread), deletes invalidate.
+ * Every put/invalidate bumps the key's version (under the segment lock); a read-through
+ * load records the version it started at and is only cached if that is still current,
+ * so a load that raced a write never puts the old value back (a deleted account,
+ * a pre-interest balance).
+ *
+ * Loads are single-flight: concurrent misses for the same account (a hot account polled
+ * by many clients while it is not cached, or with the cache disabled) wait for the one
+ * database call already in flight and share its result. A reader only joins a flight
+ * started at the current version — after a write it starts a new one — so a read that
+ * starts after a write never gets a result loaded before it.
+ * Database calls and coalesced reads are counted as bank.account.cache.loads / .coalesced.
+ */
+@Component
+public class AccountCache {
+
+    private static final int SEGMENTS = 16;
+    // Versions are striped by key hash (bounded memory); a collision only skips caching one load
+    private static final int VERSION_STRIPES = 4096;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final boolean enabled;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final Map<Long, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public AccountCache(@Value("${bank.cache.max-size:10000}") int maxSize, MeterRegistry registry) {
+        this.enabled = maxSize > 0;
+        int perSegment = Math.max(1, maxSize / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+
+        FunctionCounter.builder("bank.account.cache.hits", hits, LongAdder::sum).register(registry);
+        FunctionCounter.builder("bank.account.cache.misses", misses, LongAdder::sum).register(registry);
+        FunctionCounter.builder("bank.account.cache.evictions", evictions, LongAdder::sum).register(registry);
+        FunctionCounter.builder("bank.account.cache.loads", loads, LongAdder::sum).register(registry);
+        FunctionCounter.builder("bank.account.cache.coalesced", coalesced, LongAdder::sum).register(registry);
+        Gauge.builder("bank.account.cache.size", this, AccountCache::size).register(registry);
+        Gauge.builder("bank.account.cache.loads.in-flight", inFlight, Map::size).register(registry);
+    }
+
+    // ──── READ-THROUGH: return the cached copy or load, cache and return it ────
+
+    public Account get(long accountNumber, LongFunction<Account> loader) {
+        if (!enabled) return load(accountNumber, loader).account();
+
+        Segment segment = segmentFor(accountNumber);
+        Account cached;
+        synchronized (segment) {
+            cached = segment.get(accountNumber);
+        }
+        if (cached != null) {
+            hits.increment();
+            return copy(cached);
+        }
+
+        misses.increment();
+        Loaded loaded = load(accountNumber, loader);    // outside the lock — DB call
+        if (loaded.account() != null) {
+            synchronized (segment) {
+                // A put/invalidate since the load started means the value may be stale — don't cache it
+                if (versions.get(versionStripe(accountNumber)) == loaded.version()) {
+                    segment.putIfAbsent(accountNumber, copy(loaded.account()));
+                }
+            }
+        }
+        return loaded.account();
+    }
+
+    // ──── WRITE-THROUGH: replace with the committed state ────
+
+    public void put(Account account) {
+        if (!enabled || account == null) return;
+        Segment segment = segmentFor(account.getAccountNumber());
+        synchronized (segment) {
+            versions.incrementAndGet(versionStripe(account.getAccountNumber()));
+            segment.put(account.getAccountNumber(), copy(account));
+        }
+    }
+
+    // ──── INVALIDATE ────
+
+    public void invalidate(long accountNumber) {
+        if (!enabled) return;
+        Segment segment = segmentFor(accountNumber);
+        synchronized (segment) {
+            versions.incrementAndGet(versionStripe(accountNumber));
+            segment.remove(accountNumber);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    // ──── HELPERS ────
+
+    // Single-flight load: the first caller runs the loader, callers arriving meanwhile share its result.
+    // A flight started before the key's latest write is not joined but replaced.
+    private Loaded load(long accountNumber, LongFunction<Account> loader) {
+        long version = versions.get(versionStripe(accountNumber));
+        Flight mine = new Flight(version, new CompletableFuture<>());
+        Flight flight = inFlight.compute(accountNumber, (n, f) -> f != null && f.version() == version ? f : mine);
+        if (flight != mine) {
+            coalesced.increment();
+            try {
+                Account shared = flight.result().join();
+                return new Loaded(shared == null ? null : copy(shared), version);
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) throw re;    // the leader's failure
+                throw e;
+            }
+        }
+
+        loads.increment();
+        try {
+            Account loaded = loader.apply(accountNumber);
+            mine.result().complete(loaded == null ? null : copy(loaded));
+            return new Loaded(loaded, version);
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(accountNumber, mine);
+        }
+    }
+
+    // One database load in progress, and the key version it started at
+    private record Flight(long version, CompletableFuture<Account> result) {}
+
+    private record Loaded(Account account, long version) {}
+
+    private Segment segmentFor(long accountNumber) {
+        int h = Long.hashCode(accountNumber);
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private static int versionStripe(long accountNumber) {
+        return (int) ((accountNumber * 0x9E3779B97F4A7C15L) >>> 52);    // top 12 bits = 0..4095
+    }
+
+    // Callers may mutate the Account they get back, so the cache never shares its instance
+    private static Account copy(Account acc) {
+        return new Account(acc.getAccountNumber(), acc.getHolderName(), acc.getAccountType(), acc.getBalance());
+    }
+
+    // One LRU segment — access-ordered LinkedHashMap that drops its eldest entry when full
+    private class Segment extends LinkedHashMap<Long, Account> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Account> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV line format for bulk account import/export:
+ * account_number,holder_name,account_type,balance
+ * Holder names containing commas or quotes are double-quoted ("" escapes a quote).
+ */
+public final class AccountCsv {
+
+    public static final String HEADER = "account_number,holder_name,account_type,balance";
+
+    private AccountCsv() {
+    }
+
+    // ──── FORMAT one account as a CSV line (no line terminator) ────
+
+    public static String format(Account acc) {
+        return acc.getAccountNumber() + "," + quote(acc.getHolderName()) + ","
+                + acc.getAccountType() + "," + acc.getBalance();
+    }
+
+    // ──── PARSE one CSV line into an account ────
+
+    public static Account parse(String line) {
+        List<String> fields = split(line);
+        if (fields.size() != 4) {
+            throw new IllegalArgumentException("Expected 4 fields but found " + fields.size());
+        }
+        return new Account(
+                Long.parseLong(fields.get(0).trim()),
+                fields.get(1),
+                fields.get(2).trim().toUpperCase(),
+                fields.get(3).isBlank() ? 0 : Double.parseDouble(fields.get(3).trim())
+        );
+    }
+
+    // ──── HELPERS ────
+
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,220 @@
+package com.bank.service;
+
+import com.bank.model.AccountDeletion;
+import com.bank.model.Transaction;
+import com.bank.model.TransactionPartition;
+import com.bank.repository.AccountDeletionRepository;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.BalanceCheckpointRepository;
+import com.bank.repository.TransactionArchiveFile;
+import com.bank.repository.TransactionPartitionRepository;
+import com.bank.repository.TransactionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Archival delete of an account and its transaction history.
+ * Once a delete starts, the JournalWriter rejects deposits and withdrawals for the account.
+ * History is then removed newest first, month by month, in chunks of bank.deletion.chunk-size
+ * rows until none is left; each chunk (rows, running totals and progress) is its own short
+ * transaction taken between group commits, so no single DELETE holds the journal for long.
+ * The account row is deleted only in the final step, together with any rows journaled by
+ * other writers (interest) since the last chunk, so a failure at any point leaves either
+ * the full account or a consistent, resumable partial delete.
+ * History in archived months goes in that final step too: every archive file holding the
+ * account's rows (per archived_transaction_totals) is rewritten without them first, so a
+ * reused account number never inherits old history from an archive.
+ *
+ * Deletes run one at a time on a background thread; RUNNING deletes found at
+ * startup are resumed (see resumePending).
+ */
+@Component
+public class AccountDeletionJob {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTotalsRepository transactionTotalsRepository;
+    private final AccountDeletionRepository accountDeletionRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final TransactionPartitionRepository transactionPartitionRepository;
+    private final JournalWriter journalWriter;
+    private final AccountCache accountCache;
+    private final NameSearchIndex nameSearchIndex;
+    private final int chunkSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "account-deletion");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    public AccountDeletionJob(AccountRepository accountRepository,
+                              TransactionRepository transactionRepository,
+                              TransactionTotalsRepository transactionTotalsRepository,
+                              AccountDeletionRepository accountDeletionRepository,
+                              BalanceCheckpointRepository balanceCheckpointRepository,
+                              TransactionPartitionRepository transactionPartitionRepository,
+                              JournalWriter journalWriter,
+                              AccountCache accountCache,
+                              NameSearchIndex nameSearchIndex,
+                              @Value("${bank.deletion.chunk-size:5000}") int chunkSize) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionTotalsRepository = transactionTotalsRepository;
+        this.accountDeletionRepository = accountDeletionRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.transactionPartitionRepository = transactionPartitionRepository;
+        this.journalWriter = journalWriter;
+        this.accountCache = accountCache;
+        this.nameSearchIndex = nameSearchIndex;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;    // the current chunk commits, the rest resumes at next startup
+        executor.shutdown();
+    }
+
+    /**
+     * Starts (or resumes) deleting an account and returns its progress,
+     * or null if the account does not exist and no delete is pending for it.
+     */
+    public AccountDeletion start(long accountNumber) {
+        try {
+            if (accountRepository.findByAccountNumber(accountNumber) == null) {
+                return accountDeletionRepository.findByAccountNumber(accountNumber);    // DONE, or null
+            }
+            if (queued.add(accountNumber)) {
+                try {
+                    journalWriter.closeAccount(accountNumber);    // before the count, so it cannot grow
+                    accountDeletionRepository.start(accountNumber,
+                            transactionTotalsRepository.countByAccountNumber(accountNumber));
+                    executor.execute(() -> run(accountNumber));
+                } catch (SQLException | RuntimeException e) {
+                    journalWriter.reopenAccount(accountNumber);
+                    queued.remove(accountNumber);    // nothing was queued — a later start may try again
+                    throw e;
+                }
+            }
+            return accountDeletionRepository.findByAccountNumber(accountNumber);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error starting account deletion", e);
+        }
+    }
+
+    public AccountDeletion getProgress(long accountNumber) {
+        try {
+            return accountDeletionRepository.findByAccountNumber(accountNumber);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error fetching account deletion", e);
+        }
+    }
+
+    // Re-queue deletes that were interrupted by a shutdown — called once at startup
+    public void resumePending() {
+        try {
+            for (AccountDeletion deletion : accountDeletionRepository.findByStatus("RUNNING")) {
+                System.out.printf("Resuming delete of account #%d (%d of %d history rows done)%n",
+                        deletion.getAccountNumber(), deletion.getDeletedRows(), deletion.getTotalRows());
+                start(deletion.getAccountNumber());
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error resuming account deletions", e);
+        }
+    }
+
+    // ──── JOB: history chunks, then the account row ────
+
+    private void run(long accountNumber) {
+        try {
+            long start = System.nanoTime();
+            Timestamp since = new Timestamp(System.currentTimeMillis());    // journal stamps use the same clock
+            long deleted = 0;
+            int rows;
+            do {
+                if (!running) return;
+                rows = journalWriter.runExclusive(() -> deleteChunk(accountNumber));
+                deleted += rows;
+            } while (rows > 0);    // a short chunk only means its month is done — older months follow
+
+            // Under one hold of the commit lock, so no partition is archived in between:
+            // archive files first (idempotent — repeated on resume), then the account row
+            deleted += journalWriter.runLocked(() -> {
+                long purged = purgeArchives(accountNumber);
+                return purged + journalWriter.runExclusive(() -> {
+                    // Rows journaled while this run went on (interest) go with the account, in one transaction;
+                    // older history was all taken by the chunks, so this never reaches back into past months
+                    int late = transactionRepository.deleteSince(accountNumber, since);
+                    accountDeletionRepository.addDeleted(accountNumber, late);
+                    transactionTotalsRepository.removeAccount(accountNumber);
+                    balanceCheckpointRepository.deleteByAccountNumber(accountNumber);
+                    accountRepository.delete(accountNumber);
+                    accountDeletionRepository.finish(accountNumber, "DONE", null);
+                    return late;
+                });
+            });
+            accountCache.invalidate(accountNumber);
+            nameSearchIndex.remove(accountNumber);
+            journalWriter.reopenAccount(accountNumber);    // the number may be reused
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("Deleted account #%d: %d history rows in %.1fs (%.0f rows/sec)%n",
+                    accountNumber, deleted, seconds, deleted / seconds);
+        } catch (RuntimeException e) {
+            System.out.println("Delete of account #" + accountNumber + " failed: " + e.getMessage());
+            journalWriter.reopenAccount(accountNumber);    // until the delete is retried
+            try {
+                accountDeletionRepository.finish(accountNumber, "FAILED", String.valueOf(e.getMessage()));
+            } catch (SQLException ignored) {
+                // progress stays RUNNING and is resumed at next startup
+            }
+        } finally {
+            queued.remove(accountNumber);
+        }
+    }
+
+    // Rewrite every archive file that holds this account's rows without them; returns rows removed
+    private long purgeArchives(long accountNumber) throws SQLException {
+        long purged = 0;
+        for (String month : transactionTotalsRepository.findArchivedMonths(accountNumber)) {
+            TransactionPartition partition = transactionPartitionRepository.find(YearMonth.parse(month));
+            if (partition == null || !partition.isArchived()) continue;
+            try {
+                long[] counts = TransactionArchiveFile.removeAccount(Path.of(partition.getArchiveFile()), accountNumber);
+                if (counts[1] == 0) continue;
+                transactionPartitionRepository.updateArchivedRows(YearMonth.parse(month), counts[0]);
+                accountDeletionRepository.addDeleted(accountNumber, counts[1]);
+                purged += counts[1];
+            } catch (IOException e) {
+                throw new SQLException("Error rewriting archive " + partition.getArchiveFile(), e);
+            }
+        }
+        return purged;
+    }
+
+    private int deleteChunk(long accountNumber) throws SQLException {
+        List<Transaction> chunk = transactionRepository.findChunk(accountNumber, chunkSize);
+        if (chunk.isEmpty()) return 0;
+
+        transactionRepository.deleteBatch(chunk);
+        transactionTotalsRepository.subtract(chunk);
+        accountDeletionRepository.addDeleted(accountNumber, chunk.size());
+        return chunk.size();
+    }
+}
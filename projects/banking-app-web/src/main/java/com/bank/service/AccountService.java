@@ -1,24 +1,78 @@
 package com.bank.service;
 
 import com.bank.model.Account;
+import com.bank.model.AccountDeletion;
+import com.bank.model.BalanceAsOf;
+import com.bank.model.BalanceCheckpoint;
 import com.bank.model.Transaction;
+import com.bank.model.TransactionSearchCriteria;
+import com.bank.model.TransactionTotal;
 import com.bank.repository.AccountRepository;
 import com.bank.repository.TransactionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
  * Service layer for banking operations.
  * Delegates to AccountRepository and TransactionRepository for JDBC access.
  * Wraps checked SQLExceptions into unchecked RuntimeExceptions.
+ * Deposit/withdraw are group-committed by JournalWriter (balance delta + journal row in one commit),
+ * behind the AdmissionLimiter's adaptive limit on writes in flight.
  */
 @Service
 public class AccountService {
 
-    private final AccountRepository accountRepository = new AccountRepository();
-    private final TransactionRepository transactionRepository = new TransactionRepository();
+    private static final Timestamp END_OF_TIME = Timestamp.valueOf("9999-12-31 23:59:59");
+    private static final int SEARCH_INDEX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_ACCOUNTS = 100;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTotalsRepository transactionTotalsRepository;
+    private final JournalWriter journalWriter;
+    private final AccountCache accountCache;
+    private final NameSearchIndex nameSearchIndex;
+    private final AccountDeletionJob accountDeletionJob;
+    private final BalanceCheckpointJob balanceCheckpointJob;
+    private final AdmissionLimiter admissionLimiter;
+    private final long commitTimeoutMillis;
+
+    // Constructor injection — both repositories share the pooled DataSource
+    public AccountService(AccountRepository accountRepository,
+                          TransactionRepository transactionRepository,
+                          TransactionTotalsRepository transactionTotalsRepository,
+                          JournalWriter journalWriter,
+                          AccountCache accountCache,
+                          NameSearchIndex nameSearchIndex,
+                          AccountDeletionJob accountDeletionJob,
+                          BalanceCheckpointJob balanceCheckpointJob,
+                          AdmissionLimiter admissionLimiter,
+                          @Value("${bank.journal.commit-timeout-ms:30000}") long commitTimeoutMillis) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionTotalsRepository = transactionTotalsRepository;
+        this.journalWriter = journalWriter;
+        this.accountCache = accountCache;
+        this.nameSearchIndex = nameSearchIndex;
+        this.accountDeletionJob = accountDeletionJob;
+        this.balanceCheckpointJob = balanceCheckpointJob;
+        this.admissionLimiter = admissionLimiter;
+        this.commitTimeoutMillis = commitTimeoutMillis;
+    }
 
     // ──── CREATE ────
 
@@ -27,115 +81,221 @@ public class AccountService {
             if (accountRepository.findByAccountNumber(account.getAccountNumber()) != null) {
                 return null;    // duplicate account number
             }
-            return accountRepository.insert(account);
+            Account created = accountRepository.insert(account);
+            accountCache.put(created);
+            nameSearchIndex.add(created.getAccountNumber(), created.getHolderName());
+            return created;
         } catch (SQLException e) {
             throw new RuntimeException("Error creating account", e);
         }
     }
 
-    // ──── READ (all) ────
+    // ──── READ (account count and total balance — for the dashboard) ────
 
-    public List<Account> getAllAccounts() {
+    public Map<String, Object> getAccountStats() {
         try {
-            return accountRepository.findAll();
+            double[] stats = accountRepository.countAndSumBalances();
+            return Map.of("totalAccounts", (long) stats[0], "totalBalance", stats[1]);
         } catch (SQLException e) {
-            throw new RuntimeException("Error fetching accounts", e);
+            throw new RuntimeException("Error fetching account stats", e);
         }
     }
 
-    // ──── READ (by account number) ────
+    // ──── READ (keyset page) ────
 
-    public Account getByAccountNumber(long accountNumber) {
+    public List<Account> getAccountsPage(Long afterAccountNumber, int limit) {
         try {
-            return accountRepository.findByAccountNumber(accountNumber);
+            long after = afterAccountNumber == null ? Long.MIN_VALUE : afterAccountNumber;
+            return accountRepository.findPage(after, limit);
         } catch (SQLException e) {
-            throw new RuntimeException("Error fetching account", e);
+            throw new RuntimeException("Error fetching accounts", e);
         }
     }
 
+    // ──── READ (streamed export) ────
+
+    public void exportAccounts(int pageSize, Consumer<Account> consumer) {
+        long[] rows = {0};
+        long start = System.nanoTime();
+        streamAccounts(pageSize, acc -> {
+            consumer.accept(acc);
+            rows[0]++;
+        });
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("Export: %d accounts in %.1fs (%.0f rows/sec)%n", rows[0], seconds, rows[0] / seconds);
+    }
+
+    // ──── READ (by account number — read-through AccountCache, concurrent misses share one query) ────
+
+    public Account getByAccountNumber(long accountNumber) {
+        return accountCache.get(accountNumber, this::loadAccount);
+    }
+
     // ──── DEPOSIT ────
 
+    // Balance delta and journal row are committed together by the JournalWriter's group commit
     public Account deposit(long accountNumber, double amount) {
+        return awaitCommit(depositAsync(accountNumber, amount), "Error depositing");
+    }
+
+    // Non-blocking variant — completes once the group commit lands, without holding the caller's thread,
+    // or with TimeoutException after bank.journal.commit-timeout-ms (the change may still commit later)
+    public CompletableFuture<Account> depositAsync(long accountNumber, double amount) {
+        return submit(accountNumber, "DEPOSIT", amount);
+    }
+
+    // ──── WITHDRAW ────
+
+    // Conditional debit (balance >= amount) is checked by the database, not in Java
+    public Account withdraw(long accountNumber, double amount) {
+        return awaitCommit(withdrawAsync(accountNumber, amount), "Error withdrawing");
+    }
+
+    public CompletableFuture<Account> withdrawAsync(long accountNumber, double amount) {
+        return submit(accountNumber, "WITHDRAW", amount);
+    }
+
+    // ──── TRANSACTION HISTORY (keyset page, newest first) ────
+
+    public List<Transaction> getTransactionHistory(long accountNumber, String after, LocalDate from,
+                                                   LocalDate to, String type, int limit) {
         try {
-            Account acc = accountRepository.findByAccountNumber(accountNumber);
-            if (acc == null) return null;
-            if (amount <= 0) throw new IllegalArgumentException("Amount must be positive");
-
-            double newBalance = acc.getBalance() + amount;
-            accountRepository.updateBalance(accountNumber, newBalance);
-
-            // Record the transaction
-            Transaction txn = new Transaction();
-            txn.setAccountNumber(accountNumber);
-            txn.setTransactionType("DEPOSIT");
-            txn.setAmount(amount);
-            transactionRepository.insert(txn);
-
-            acc.setBalance(newBalance);
-            return acc;
+            if (after == null && accountRepository.findByAccountNumber(accountNumber) == null) return null;    // not found
+            TransactionCursor start = startCursor(after, to);
+            Timestamp fromDate = from != null ? Timestamp.valueOf(from.atStartOfDay()) : null;
+            String txnType = type != null ? type.toUpperCase() : null;
+
+            return transactionRepository.findHistoryPage(accountNumber, start.getTransactionDate(),
+                    start.getTransactionId(), fromDate, txnType, limit);
         } catch (SQLException e) {
-            throw new RuntimeException("Error depositing", e);
+            throw new RuntimeException("Error fetching transaction history", e);
         }
     }
 
-    // ──── WITHDRAW ────
+    // ──── TRANSACTION SEARCH (account set, type, amount range, date window — keyset page, newest first) ────
+
+    public List<Transaction> searchTransactions(TransactionSearchCriteria criteria, String after, int limit) {
+        if (criteria.getAccountNumbers().size() > MAX_SEARCH_ACCOUNTS) {
+            throw new IllegalArgumentException("At most " + MAX_SEARCH_ACCOUNTS + " accounts per search");
+        }
+        if (criteria.getMinAmount() != null && criteria.getMaxAmount() != null
+                && criteria.getMinAmount() > criteria.getMaxAmount()) {
+            throw new IllegalArgumentException("minAmount must not be greater than maxAmount");
+        }
+        if (criteria.getFrom() != null && criteria.getTo() != null && criteria.getFrom().isAfter(criteria.getTo())) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (criteria.getType() != null) criteria.setType(criteria.getType().toUpperCase());
 
-    public Account withdraw(long accountNumber, double amount) {
         try {
-            Account acc = accountRepository.findByAccountNumber(accountNumber);
-            if (acc == null) return null;
-            if (amount <= 0) throw new IllegalArgumentException("Amount must be positive");
-            if (amount > acc.getBalance()) throw new IllegalArgumentException("Insufficient balance");
-
-            double newBalance = acc.getBalance() - amount;
-            accountRepository.updateBalance(accountNumber, newBalance);
-
-            // Record the transaction
-            Transaction txn = new Transaction();
-            txn.setAccountNumber(accountNumber);
-            txn.setTransactionType("WITHDRAW");
-            txn.setAmount(amount);
-            transactionRepository.insert(txn);
-
-            acc.setBalance(newBalance);
-            return acc;
+            TransactionCursor start = startCursor(after, criteria.getTo());
+            return transactionRepository.search(criteria, start.getTransactionDate(), start.getTransactionId(), limit);
         } catch (SQLException e) {
-            throw new RuntimeException("Error withdrawing", e);
+            throw new RuntimeException("Error searching transactions", e);
         }
     }
 
-    // ──── UPDATE (full) ────
+    // ──── BALANCE AS OF a past moment (nearest checkpoint + the journal rows in between) ────
 
-    public Account updateAccount(long accountNumber, Account updated) {
+    // Moments before the account was opened report its opening balance
+    public BalanceAsOf getBalanceAsOf(long accountNumber, LocalDateTime asOf) {
         try {
-            return accountRepository.update(accountNumber, updated);
+            if (getByAccountNumber(accountNumber) == null) return null;    // not found
+
+            Timestamp at = Timestamp.valueOf(asOf);
+            BalanceCheckpoint checkpoint = balanceCheckpointJob.findNearest(accountNumber, at);
+            Timestamp checkpointAt = Timestamp.valueOf(checkpoint.getCheckpointAt());
+
+            // Replay forward from an earlier checkpoint, or undo backward from a later one
+            double balance;
+            double[] delta;
+            if (checkpointAt.after(at)) {
+                delta = transactionRepository.sumBalanceDeltas(accountNumber, at, checkpointAt);
+                balance = checkpoint.getBalance() - delta[0];
+            } else {
+                delta = transactionRepository.sumBalanceDeltas(accountNumber, checkpointAt, at);
+                balance = checkpoint.getBalance() + delta[0];
+            }
+            return new BalanceAsOf(accountNumber, at.toString(), balance, checkpoint.getCheckpointAt(), (long) delta[1]);
         } catch (SQLException e) {
-            throw new RuntimeException("Error updating account", e);
+            throw new RuntimeException("Error fetching balance as of " + asOf, e);
         }
     }
 
-    // ──── DELETE ────
+    // ──── SUMMARY (running totals — primary-key reads, no SUM over transactions) ────
+
+    public List<TransactionTotal> getTransactionTotals() {
+        try {
+            return transactionTotalsRepository.findAll();
+        } catch (SQLException e) {
+            throw new RuntimeException("Error fetching transaction totals", e);
+        }
+    }
 
-    public boolean deleteAccount(long accountNumber) {
+    public List<TransactionTotal> getAccountTransactionTotals(long accountNumber) {
         try {
-            // Delete associated transactions first (FK constraint)
-            transactionRepository.deleteByAccountNumber(accountNumber);
-            return accountRepository.delete(accountNumber);
+            if (getByAccountNumber(accountNumber) == null) return null;    // not found
+            return transactionTotalsRepository.findByAccountNumber(accountNumber);
         } catch (SQLException e) {
-            throw new RuntimeException("Error deleting account", e);
+            throw new RuntimeException("Error fetching transaction totals", e);
         }
     }
 
-    // ──── SEARCH (by name) ────
+    // Reconciliation — recompute every total from the journal, between group commits
+    public List<TransactionTotal> rebuildTransactionTotals() {
+        journalWriter.runExclusive(() -> {
+            transactionTotalsRepository.rebuild();
+            return null;
+        });
+        return getTransactionTotals();
+    }
+
+    // ──── UPDATE (full) ────
 
-    public List<Account> searchByName(String keyword) {
+    public Account updateAccount(long accountNumber, Account updated) {
         try {
-            return accountRepository.searchByName(keyword);
+            Account account = accountRepository.update(accountNumber, updated);
+            if (account != null) {
+                // Invalidate, not put: this re-read is outside the JournalWriter lock, so a group
+                // commit may already have cached a newer balance than the one it returned
+                accountCache.invalidate(accountNumber);
+                nameSearchIndex.add(accountNumber, account.getHolderName());
+            }
+            return account;
         } catch (SQLException e) {
-            throw new RuntimeException("Error searching accounts", e);
+            throw new RuntimeException("Error updating account", e);
         }
     }
 
+    // ──── DELETE (archival — history in chunks, then the account; see AccountDeletionJob) ────
+
+    // Starts or resumes the delete in the background; null if there is no such account
+    public AccountDeletion deleteAccount(long accountNumber) {
+        return accountDeletionJob.start(accountNumber);
+    }
+
+    public AccountDeletion getDeletionProgress(long accountNumber) {
+        return accountDeletionJob.getProgress(accountNumber);
+    }
+
+    // ──── SEARCH (by name — trigram index, best match first) ────
+
+    public List<Account> searchByName(String keyword, int limit) {
+        List<Account> accounts = new ArrayList<>();
+        for (long accountNumber : nameSearchIndex.search(keyword, limit)) {
+            Account account = getByAccountNumber(accountNumber);
+            if (account != null) accounts.add(account);
+        }
+        return accounts;
+    }
+
+    // Load every holder name into the index — called once at startup
+    public void rebuildSearchIndex() {
+        nameSearchIndex.clear();
+        streamAccounts(SEARCH_INDEX_PAGE_SIZE,
+                account -> nameSearchIndex.add(account.getAccountNumber(), account.getHolderName()));
+    }
+
     // ──── FILTER (by type) ────
 
     public List<Account> filterByType(String type) {
@@ -145,4 +305,68 @@ public class AccountService {
             throw new RuntimeException("Error filtering accounts", e);
         }
     }
+
+    // ──── HELPER: first keyset position — just below the cursor, or below the end of the "to" day, or the newest row ────
+
+    private static TransactionCursor startCursor(String after, LocalDate to) {
+        if (after != null) return TransactionCursor.decode(after);
+        return to != null
+                ? new TransactionCursor(Timestamp.valueOf(to.plusDays(1).atStartOfDay()), Integer.MIN_VALUE)
+                : new TransactionCursor(END_OF_TIME, Integer.MAX_VALUE);
+    }
+
+    // ──── HELPER: stream every account to the consumer (export, search index rebuild) ────
+
+    private void streamAccounts(int pageSize, Consumer<Account> consumer) {
+        try {
+            accountRepository.streamAll(pageSize, consumer);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error exporting accounts", e);
+        }
+    }
+
+    // ──── HELPER: cache loader ────
+
+    private Account loadAccount(long accountNumber) {
+        try {
+            return accountRepository.findByAccountNumber(accountNumber);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error fetching account", e);
+        }
+    }
+
+    // ──── HELPER: queue a balance change for the JournalWriter (OverloadedException when saturated) ────
+
+    private CompletableFuture<Account> submit(long accountNumber, String type, double amount) {
+        if (amount <= 0) throw new IllegalArgumentException("Amount must be positive");
+
+        Transaction txn = new Transaction();
+        txn.setAccountNumber(accountNumber);
+        txn.setTransactionType(type);
+        txn.setAmount(amount);
+
+        long admitted = admissionLimiter.acquire();    // held until the group commit completes
+        CompletableFuture<Account> result = journalWriter.submit(txn);
+        result.whenComplete((acc, error) -> admissionLimiter.release(admitted));
+        // The caller stops waiting after the commit timeout; the permit stays held until the writer is done
+        return result.copy().orTimeout(commitTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // ──── HELPER: wait (bounded) for the group commit and rethrow the caller's own failure ────
+
+    private Account awaitCommit(CompletableFuture<Account> result, String errorMessage) {
+        try {
+            return result.get();    // bounded — the future itself times out (see submit)
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalArgumentException iae) throw iae;    // insufficient balance
+            if (e.getCause() instanceof TimeoutException) {
+                // The change may still commit later — the caller must not assume it was dropped
+                throw new RuntimeException(errorMessage + ": commit not confirmed within " + commitTimeoutMillis + " ms", e.getCause());
+            }
+            throw new RuntimeException(errorMessage, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
 }
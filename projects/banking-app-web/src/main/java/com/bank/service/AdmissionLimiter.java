@@ -0,0 +1,104 @@
+package com.bank.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit for deposits and withdrawals (AIMD).
+ * Each write holds a permit from submission until its group commit completes; once
+ * the writes in flight reach the limit, new ones are refused at once with
+ * OverloadedException instead of queueing behind a slow database.
+ *
+ * The limit follows the observed commit latency: a write that took longer than
+ * bank.admission.target-latency-ms cuts it by backoff-ratio (multiplicative decrease),
+ * a faster one while at least half the limit is in use raises it by one (additive
+ * increase), always within [min-limit, max-limit]. A slow group commit completes many
+ * writes at once, so only writes submitted after the last cut can cut it again.
+ * Counts are published as bank.admission.* metrics.
+ */
+@Component
+public class AdmissionLimiter {
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final int retryAfterSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdmissionLimiter(@Value("${bank.admission.enabled:true}") boolean enabled,
+                            @Value("${bank.admission.initial-limit:256}") int initialLimit,
+                            @Value("${bank.admission.min-limit:16}") int minLimit,
+                            @Value("${bank.admission.max-limit:4096}") int maxLimit,
+                            @Value("${bank.admission.target-latency-ms:100}") long targetLatencyMillis,
+                            @Value("${bank.admission.backoff-ratio:0.9}") double backoffRatio,
+                            @Value("${bank.admission.retry-after-seconds:1}") int retryAfterSeconds,
+                            MeterRegistry registry) {
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.backoffRatio = backoffRatio;
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+
+        FunctionCounter.builder("bank.admission.accepted", accepted, LongAdder::sum).register(registry);
+        FunctionCounter.builder("bank.admission.rejected", rejected, LongAdder::sum).register(registry);
+        Gauge.builder("bank.admission.limit", this, AdmissionLimiter::getLimit).register(registry);
+        Gauge.builder("bank.admission.in-flight", inFlight, AtomicInteger::get).register(registry);
+    }
+
+    // ──── ACQUIRE a permit — returns its start time for release(), or throws OverloadedException ────
+
+    public long acquire() {
+        if (enabled) {
+            int current;
+            do {
+                current = inFlight.get();
+                if (current >= getLimit()) {
+                    rejected.increment();
+                    throw new OverloadedException(getLimit(), retryAfterSeconds);
+                }
+            } while (!inFlight.compareAndSet(current, current + 1));
+        }
+        accepted.increment();
+        return System.nanoTime();
+    }
+
+    // ──── RELEASE a permit once its write has committed (or failed) ────
+
+    public void release(long startNanos) {
+        if (enabled) complete(startNanos, System.nanoTime());
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    // One finished write: give back its permit and adjust the limit by its latency
+    synchronized void complete(long startNanos, long endNanos) {
+        int wasInFlight = inFlight.getAndDecrement();
+        if (endNanos - startNanos > targetLatencyNanos) {
+            if (startNanos - lastDecreaseNanos >= 0) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = endNanos;
+            }
+        } else if (wasInFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.bank.service;
+
+import com.bank.model.BalanceCheckpoint;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.BalanceCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodic balance checkpoints for as-of queries.
+ * Every bank.checkpoints.interval-minutes the accounts are walked in chunks of
+ * bank.checkpoints.chunk-size (keyset on account number); each chunk is one short
+ * transaction taken between group commits that records the current balance of every
+ * account that moved since its last checkpoint. Idle accounts keep their last one,
+ * so the journal rows between any moment and its nearest checkpoint are at most one
+ * interval's worth of that account's activity.
+ *
+ * A checkpoint at T covers every journal row dated at or before T: it is taken while no
+ * group can commit, and the journal is held until the clock has moved past T, so every
+ * later group is stamped after it.
+ */
+@Component
+public class BalanceCheckpointJob {
+
+    private final AccountRepository accountRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final JournalWriter journalWriter;
+    private final long intervalMinutes;
+    private final int chunkSize;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "balance-checkpoint");
+        t.setDaemon(true);
+        return t;
+    });
+    private volatile boolean running = true;
+
+    public BalanceCheckpointJob(AccountRepository accountRepository,
+                                BalanceCheckpointRepository balanceCheckpointRepository,
+                                JournalWriter journalWriter,
+                                @Value("${bank.checkpoints.interval-minutes:60}") long intervalMinutes,
+                                @Value("${bank.checkpoints.chunk-size:10000}") int chunkSize) {
+        this.accountRepository = accountRepository;
+        this.balanceCheckpointRepository = balanceCheckpointRepository;
+        this.journalWriter = journalWriter;
+        this.intervalMinutes = intervalMinutes;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;    // the current chunk commits, the next run starts over
+        scheduler.shutdown();
+    }
+
+    // Checkpoint now and then every interval-minutes — called once at startup (0 = never)
+    public void schedule() {
+        if (intervalMinutes <= 0) return;
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpointAll();
+            } catch (RuntimeException e) {
+                System.out.println("Balance checkpoint failed: " + e.getMessage());    // retried next interval
+            }
+        }, 0, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    // ──── RUN: every account that moved since its last checkpoint, one chunk at a time ────
+
+    public int checkpointAll() {
+        try {
+            long start = System.nanoTime();
+            int written = 0;
+            long after = Long.MIN_VALUE;
+            Long upTo;
+            while (running && (upTo = accountRepository.findChunkEnd(after, chunkSize)) != null) {
+                long from = after, to = upTo;
+                written += journalWriter.runExclusive(() -> checkpoint(from, to));
+                after = upTo;
+            }
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("Balance checkpoints: %d accounts in %.1fs%n", written, seconds);
+            return written;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error checkpointing balances", e);
+        }
+    }
+
+    // ──── NEAREST checkpoint to a moment (either side) — taken on demand if the account has none ────
+
+    public BalanceCheckpoint findNearest(long accountNumber, Timestamp at) {
+        try {
+            BalanceCheckpoint before = balanceCheckpointRepository.findLatestAtOrBefore(accountNumber, at);
+            BalanceCheckpoint after = balanceCheckpointRepository.findEarliestAfter(accountNumber, at);
+            if (before == null && after == null) {
+                // Opened since the last run — checkpoint it now
+                journalWriter.runExclusive(() -> checkpoint(accountNumber - 1, accountNumber));
+                before = balanceCheckpointRepository.findLatestAtOrBefore(accountNumber, at);
+                after = balanceCheckpointRepository.findEarliestAfter(accountNumber, at);
+            }
+            if (before == null) return after;
+            if (after == null) return before;
+
+            long sinceBefore = at.getTime() - Timestamp.valueOf(before.getCheckpointAt()).getTime();
+            long untilAfter = Timestamp.valueOf(after.getCheckpointAt()).getTime() - at.getTime();
+            return sinceBefore <= untilAfter ? before : after;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error fetching balance checkpoint", e);
+        }
+    }
+
+    // ──── HELPER: one chunk, inside runExclusive ────
+
+    private int checkpoint(long afterAccountNumber, long upToAccountNumber) throws SQLException {
+        Timestamp at = new Timestamp(System.currentTimeMillis());
+        int written = balanceCheckpointRepository.checkpoint(afterAccountNumber, upToAccountNumber, at);
+        // Hold the journal until the clock passes "at" — the next group is stamped after it
+        while (System.currentTimeMillis() <= at.getTime()) {
+            Thread.onSpinWait();
+        }
+        return written;
+    }
+}
@@ -0,0 +1,169 @@
+package com.bank.service;
+
+import com.bank.model.BalanceEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-Sent Events feed of committed balance changes (GET /api/accounts/feed).
+ * The JournalWriter publishes each committed group; publishing only appends to
+ * per-subscriber buffers and never waits on a socket. A small sender pool drains
+ * each subscriber's buffer into its SseEmitter, so a slow browser only delays itself.
+ *
+ * Per subscriber, at most bank.feed.buffer-size events of each kind wait to be sent:
+ * "balance" events are coalesced per account (only the latest balance is kept),
+ * "transaction" events drop the oldest when full. A subscriber that lost events is
+ * sent a "dropped" event with the count, so it can re-fetch instead of trusting the feed.
+ * Counts are published as bank.feed.* metrics.
+ */
+@Component
+public class BalanceFeed {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public BalanceFeed(@Value("${bank.feed.buffer-size:256}") int bufferSize,
+                       @Value("${bank.feed.sender-threads:4}") int senderThreads,
+                       @Value("${bank.feed.timeout-ms:1800000}") long timeoutMillis,
+                       MeterRegistry registry) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.timeoutMillis = timeoutMillis;
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), r -> {
+            Thread t = new Thread(r, "balance-feed");
+            t.setDaemon(true);
+            return t;
+        });
+
+        FunctionCounter.builder("bank.feed.published", published, LongAdder::sum).register(registry);
+        FunctionCounter.builder("bank.feed.coalesced", coalesced, LongAdder::sum).register(registry);
+        FunctionCounter.builder("bank.feed.dropped", dropped, LongAdder::sum).register(registry);
+        Gauge.builder("bank.feed.subscribers", this, BalanceFeed::subscriberCount).register(registry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscribers.forEach(s -> s.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    // ──── SUBSCRIBE — every account, or only the given one ────
+
+    public SseEmitter subscribe(Long accountNumber) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, accountNumber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    // ──── PUBLISH one committed group (JournalWriter thread — must not block) ────
+
+    public void publish(List<BalanceEvent> events) {
+        if (events.isEmpty() || subscribers.isEmpty()) return;
+        published.add(events.size());
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(events)) {
+                senders.execute(subscriber::drain);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // ──── One connected browser and its bounded buffers ────
+
+    private class Subscriber {
+        final SseEmitter emitter;
+        final Long accountNumber;    // null = every account
+        final Map<Long, BalanceEvent> balances = new LinkedHashMap<>();
+        final ArrayDeque<BalanceEvent> transactions = new ArrayDeque<>();
+        long lost;
+        boolean scheduled;
+
+        Subscriber(SseEmitter emitter, Long accountNumber) {
+            this.emitter = emitter;
+            this.accountNumber = accountNumber;
+        }
+
+        // Buffers the matching events; true if a drain has to be scheduled
+        synchronized boolean offer(List<BalanceEvent> events) {
+            boolean added = false;
+            for (BalanceEvent event : events) {
+                if (accountNumber != null && accountNumber != event.getAccountNumber()) continue;
+                added = true;
+
+                if (transactions.size() == bufferSize) {
+                    transactions.pollFirst();
+                    lost++;
+                    dropped.increment();
+                }
+                transactions.addLast(event);
+
+                if (balances.put(event.getAccountNumber(), event) != null) {
+                    coalesced.increment();
+                } else if (balances.size() > bufferSize) {
+                    Iterator<BalanceEvent> eldest = balances.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    lost++;
+                    dropped.increment();
+                }
+            }
+            if (!added || scheduled) return false;
+            scheduled = true;
+            return true;
+        }
+
+        // Sender thread — sends until the buffers stay empty
+        void drain() {
+            while (true) {
+                List<BalanceEvent> txns;
+                List<BalanceEvent> latest;
+                long lostNow;
+                synchronized (this) {
+                    if (transactions.isEmpty() && balances.isEmpty()) {
+                        scheduled = false;
+                        return;
+                    }
+                    txns = new ArrayList<>(transactions);
+                    latest = new ArrayList<>(balances.values());
+                    lostNow = lost;
+                    transactions.clear();
+                    balances.clear();
+                    lost = 0;
+                }
+                try {
+                    if (lostNow > 0) emitter.send(SseEmitter.event().name("dropped").data(lostNow));
+                    for (BalanceEvent event : txns) emitter.send(SseEmitter.event().name("transaction").data(event));
+                    for (BalanceEvent event : latest) emitter.send(SseEmitter.event().name("balance").data(event));
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(this);    // browser went away
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
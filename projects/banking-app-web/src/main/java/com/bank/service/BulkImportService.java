@@ -0,0 +1,123 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.BulkImportResult;
+import com.bank.repository.AccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming bulk import of accounts from CSV or NDJSON.
+ * Lines are parsed one at a time and inserted in chunks of bank.bulk.chunk-size rows —
+ * one JDBC batch and one commit per chunk — so memory stays constant for any file size.
+ */
+@Service
+public class BulkImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private final AccountRepository accountRepository;
+    private final NameSearchIndex nameSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BulkImportService(AccountRepository accountRepository,
+                             NameSearchIndex nameSearchIndex,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${bank.bulk.chunk-size:1000}") int chunkSize) {
+        this.accountRepository = accountRepository;
+        this.nameSearchIndex = nameSearchIndex;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // ──── IMPORT (csv = true for CSV with optional header line, false for NDJSON) ────
+
+    public BulkImportResult importAccounts(BufferedReader reader, boolean csv) throws IOException {
+        BulkImportResult result = new BulkImportResult();
+        List<Account> chunk = new ArrayList<>(chunkSize);
+        long start = System.nanoTime();
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (csv && lineNumber == 1 && line.startsWith("account_number"))) continue;
+
+            result.setReceived(result.getReceived() + 1);
+            try {
+                Account account = csv ? AccountCsv.parse(line) : objectMapper.readValue(line, Account.class);
+                validate(account);
+                chunk.add(account);
+            } catch (IOException | IllegalArgumentException e) {
+                reject(result, lineNumber, e.getMessage());
+                continue;
+            }
+
+            if (chunk.size() == chunkSize) {
+                flush(chunk, result);
+            }
+        }
+        flush(chunk, result);
+
+        long elapsedNanos = System.nanoTime() - start;
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(elapsedNanos == 0 ? 0 : result.getReceived() * 1_000_000_000.0 / elapsedNanos);
+        System.out.printf("Bulk import: %d received, %d inserted, %d duplicates, %d rejected (%.0f rows/sec)%n",
+                result.getReceived(), result.getInserted(), result.getDuplicates(), result.getRejected(),
+                result.getRowsPerSecond());
+        return result;
+    }
+
+    // ──── HELPERS ────
+
+    private void flush(List<Account> chunk, BulkImportResult result) {
+        if (chunk.isEmpty()) return;
+
+        int[] counts = transactionTemplate.execute(status -> {
+            try {
+                return accountRepository.insertBatchIfAbsent(chunk);
+            } catch (SQLException e) {
+                throw new RuntimeException("Error importing accounts", e);
+            }
+        });
+        long inserted = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                inserted++;
+                nameSearchIndex.add(chunk.get(i).getAccountNumber(), chunk.get(i).getHolderName());
+            }
+        }
+        result.setInserted(result.getInserted() + inserted);
+        result.setDuplicates(result.getDuplicates() + chunk.size() - inserted);
+        chunk.clear();
+    }
+
+    private void validate(Account account) {
+        if (account.getHolderName() == null || account.getHolderName().isBlank()) {
+            throw new IllegalArgumentException("Holder name is required");
+        }
+        if (account.getAccountType() == null || account.getAccountType().isBlank()) {
+            throw new IllegalArgumentException("Account type is required");
+        }
+    }
+
+    private void reject(BulkImportResult result, long lineNumber, String reason) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add("Line " + lineNumber + ": " + reason);
+        }
+    }
+}
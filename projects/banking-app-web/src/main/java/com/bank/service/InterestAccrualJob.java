@@ -0,0 +1,199 @@
+package com.bank.service;
+
+import com.bank.model.InterestRun;
+import com.bank.model.Transaction;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.InterestRunRepository;
+import com.bank.repository.TransactionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monthly interest for SAVINGS accounts: balance * bank.interest.annual-rate / 12, rounded to cents.
+ * Accounts are walked in account-number chunks of bank.interest.chunk-size; each chunk is one
+ * short transaction taken between group commits that credits every account in the range with a
+ * single UPDATE, journals one INTEREST row per credited account in a JDBC batch and advances the
+ * run's progress — so an interrupted run resumes after its last committed chunk and never credits
+ * an account twice. Accounts opened after a run started are left for the next month.
+ *
+ * Every bank.interest.check-interval-minutes the previous month's run is started if it has not
+ * been, and runs a shutdown interrupted are resumed; runs go one at a time on a background thread.
+ */
+@Component
+public class InterestAccrualJob {
+
+    private static final String ACCOUNT_TYPE = "SAVINGS";
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTotalsRepository transactionTotalsRepository;
+    private final InterestRunRepository interestRunRepository;
+    private final JournalWriter journalWriter;
+    private final AccountCache accountCache;
+    private final double monthlyRate;
+    private final int chunkSize;
+    private final long checkIntervalMinutes;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "interest-accrual");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    public InterestAccrualJob(AccountRepository accountRepository,
+                              TransactionRepository transactionRepository,
+                              TransactionTotalsRepository transactionTotalsRepository,
+                              InterestRunRepository interestRunRepository,
+                              JournalWriter journalWriter,
+                              AccountCache accountCache,
+                              @Value("${bank.interest.annual-rate:0.04}") double annualRate,
+                              @Value("${bank.interest.chunk-size:5000}") int chunkSize,
+                              @Value("${bank.interest.check-interval-minutes:60}") long checkIntervalMinutes) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionTotalsRepository = transactionTotalsRepository;
+        this.interestRunRepository = interestRunRepository;
+        this.journalWriter = journalWriter;
+        this.accountCache = accountCache;
+        this.monthlyRate = annualRate / 12;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.checkIntervalMinutes = checkIntervalMinutes;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;    // the current chunk commits, the rest resumes at next startup
+        executor.shutdown();
+    }
+
+    // Resume interrupted runs and start last month's, now and every check-interval-minutes —
+    // called once at startup (0 = never; runs are then only started through start())
+    public void schedule() {
+        if (checkIntervalMinutes <= 0) return;
+        check();    // the run's account range is fixed before any request can open an account
+        executor.scheduleWithFixedDelay(this::check, checkIntervalMinutes, checkIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    private void check() {
+        try {
+            for (InterestRun run : interestRunRepository.findByStatus("RUNNING")) {
+                start(YearMonth.parse(run.getMonth()));
+            }
+            start(YearMonth.now().minusMonths(1));
+        } catch (SQLException | RuntimeException e) {
+            System.out.println("Interest check failed: " + e.getMessage());    // retried next interval
+        }
+    }
+
+    /**
+     * Starts (or resumes) the interest run for a past month and returns its progress;
+     * a month that is already DONE is returned as it is.
+     */
+    public InterestRun start(YearMonth month) {
+        if (!month.isBefore(YearMonth.now())) {
+            throw new IllegalArgumentException("Interest can only be accrued for months before " + YearMonth.now());
+        }
+        String key = month.toString();
+        try {
+            InterestRun run = interestRunRepository.findByMonth(key);
+            if (run != null && "DONE".equals(run.getStatus())) return run;
+            if (queued.add(key)) {
+                try {
+                    interestRunRepository.start(key, monthlyRate, accountRepository.findMaxAccountNumber());
+                    executor.execute(() -> run(key));
+                } catch (SQLException | RuntimeException e) {
+                    queued.remove(key);    // nothing was queued — a later start may try again
+                    throw e;
+                }
+            }
+            return interestRunRepository.findByMonth(key);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error starting interest run", e);
+        }
+    }
+
+    public InterestRun getProgress(YearMonth month) {
+        try {
+            return interestRunRepository.findByMonth(month.toString());
+        } catch (SQLException e) {
+            throw new RuntimeException("Error fetching interest run", e);
+        }
+    }
+
+    // ──── JOB: account-number chunks up to the highest account when the run started ────
+
+    private void run(String month) {
+        try {
+            InterestRun run = interestRunRepository.findByMonth(month);
+            long start = System.nanoTime();
+            long credited = 0;
+            double total = 0;
+            long after = run.getLastAccountNumber();
+            long end = run.getEndAccountNumber();
+            Long upTo;
+            while (after < end && (upTo = accountRepository.findChunkEnd(after, chunkSize)) != null) {
+                if (!running) return;
+                long from = after, to = Math.min(upTo, end);
+                List<Transaction> chunk = journalWriter.runStamped(now -> accrueChunk(month, from, to, run.getRate(), now));
+                for (Transaction txn : chunk) {
+                    accountCache.invalidate(txn.getAccountNumber());
+                    total += txn.getAmount();
+                }
+                credited += chunk.size();
+                after = to;
+            }
+            interestRunRepository.finish(month, "DONE", null);
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("Interest for %s: %d accounts credited %.2f in %.1fs (%.0f accounts/sec)%n",
+                    month, credited, total, seconds, credited / seconds);
+        } catch (SQLException | RuntimeException e) {
+            System.out.println("Interest run for " + month + " failed: " + e.getMessage());
+            try {
+                interestRunRepository.finish(month, "FAILED", String.valueOf(e.getMessage()));
+            } catch (SQLException ignored) {
+                // progress stays RUNNING and is resumed at the next check
+            }
+        } finally {
+            queued.remove(month);
+        }
+    }
+
+    // ──── HELPER: one chunk, inside runStamped — balances, journal rows, totals and progress commit together ────
+
+    private List<Transaction> accrueChunk(String month, long afterAccountNumber, long upToAccountNumber,
+                                          double rate, Timestamp now) throws SQLException {
+        List<Transaction> interest = accountRepository.findInterest(afterAccountNumber, upToAccountNumber, ACCOUNT_TYPE, rate);
+        int updated = accountRepository.applyInterest(afterAccountNumber, upToAccountNumber, ACCOUNT_TYPE, rate);
+        if (updated != interest.size()) {
+            throw new SQLException("Accounts " + afterAccountNumber + ".." + upToAccountNumber
+                    + " changed while interest was applied (" + updated + " of " + interest.size() + ")");
+        }
+
+        double amount = 0;
+        for (Transaction txn : interest) {
+            txn.setTransactionDate(now.toString());
+            amount += txn.getAmount();
+        }
+        if (!interest.isEmpty()) {
+            transactionRepository.insertBatch(interest);
+            transactionTotalsRepository.add(interest);    // running totals, same commit
+        }
+        interestRunRepository.advance(month, upToAccountNumber, interest.size(), amount);
+        return interest;
+    }
+}
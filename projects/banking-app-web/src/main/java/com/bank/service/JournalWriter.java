@@ -0,0 +1,294 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.BalanceEvent;
+import com.bank.model.Transaction;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.TransactionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-commit writer for deposits and withdrawals.
+ * Request threads submit a Transaction and wait on a future; a single writer thread
+ * collects up to max-batch requests (waiting at most max-delay-ms for more to arrive),
+ * applies all balance deltas and journal rows with JDBC batches, commits once,
+ * and only then completes each caller's future and publishes the group to the BalanceFeed.
+ * Every future is completed: submits after stop() are rejected, and any failure of a group
+ * (including an Error) fails that group's callers instead of stopping the writer thread.
+ * Accounts being deleted are closed to new transactions (closeAccount/reopenAccount).
+ */
+@Component
+public class JournalWriter {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTotalsRepository transactionTotalsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountCache accountCache;
+    private final BalanceFeed balanceFeed;
+    private final int maxBatch;
+    private final long maxDelayNanos;
+
+    private final BlockingQueue<PendingTransaction> queue = new LinkedBlockingQueue<>();
+    private final Object commitLock = new Object();    // group commits and runExclusive never overlap
+    private final Object submitLock = new Object();    // no submit slips in after stop() — it would never be taken
+    private final Set<Long> closedAccounts = ConcurrentHashMap.newKeySet();    // deletes in progress
+    private final Thread writerThread = new Thread(this::runWriter, "journal-writer");
+    private volatile boolean running = true;
+
+    public JournalWriter(AccountRepository accountRepository,
+                         TransactionRepository transactionRepository,
+                         TransactionTotalsRepository transactionTotalsRepository,
+                         PlatformTransactionManager transactionManager,
+                         AccountCache accountCache,
+                         BalanceFeed balanceFeed,
+                         @Value("${bank.journal.max-batch:256}") int maxBatch,
+                         @Value("${bank.journal.max-delay-ms:2}") long maxDelayMillis) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionTotalsRepository = transactionTotalsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.accountCache = accountCache;
+        this.balanceFeed = balanceFeed;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        synchronized (submitLock) {
+            running = false;
+        }
+        writerThread.interrupt();
+        writerThread.join();
+    }
+
+    /**
+     * Queues a DEPOSIT or WITHDRAW for the next group commit.
+     * The future completes after the commit with the account as of this transaction,
+     * with null if the account does not exist, or exceptionally with
+     * IllegalArgumentException("Insufficient balance"), or with IllegalStateException once stopped.
+     */
+    public CompletableFuture<Account> submit(Transaction txn) {
+        PendingTransaction pending = new PendingTransaction(txn);
+        synchronized (submitLock) {
+            if (!running) {
+                pending.result.completeExceptionally(new IllegalStateException("Journal writer is stopped"));
+                return pending.result;
+            }
+            queue.add(pending);    // the writer drains the queue before it exits
+        }
+        return pending.result;
+    }
+
+    /**
+     * Runs other journal maintenance (totals rebuild, account delete, checkpoints) in its own
+     * transaction while no group is being committed, and returns its result.
+     */
+    public <T> T runExclusive(JournalWork<T> work) {
+        synchronized (commitLock) {
+            return transactionTemplate.execute(status -> {
+                try {
+                    return work.run();
+                } catch (SQLException e) {
+                    throw new RuntimeException("Error writing journal", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Like runExclusive, for work that writes journal rows of its own: their commit time is
+     * taken (and its month's partition created) under the same lock, before the transaction
+     * opens, so journal dates always follow commit order — balance checkpoints rely on it.
+     */
+    public <T> T runStamped(StampedJournalWork<T> work) {
+        synchronized (commitLock) {
+            Timestamp now;
+            try {
+                now = transactionRepository.stamp();
+            } catch (SQLException e) {
+                throw new RuntimeException("Error writing journal", e);
+            }
+            return runExclusive(() -> work.run(now));
+        }
+    }
+
+    /**
+     * Holds the commit lock without opening a transaction — for steps that must not interleave
+     * with group commits but run on their own connections (partition DDL auto-commits).
+     * runExclusive/runStamped may be called inside it.
+     */
+    public <T> T runLocked(JournalWork<T> work) {
+        synchronized (commitLock) {
+            try {
+                return work.run();
+            } catch (SQLException e) {
+                throw new RuntimeException("Error writing journal", e);
+            }
+        }
+    }
+
+    /**
+     * Rejects deposits and withdrawals for an account from the next group on, with
+     * IllegalArgumentException — taken under the commit lock, so once this returns no
+     * group can still journal rows for it.
+     */
+    public void closeAccount(long accountNumber) {
+        synchronized (commitLock) {
+            closedAccounts.add(accountNumber);
+        }
+    }
+
+    public void reopenAccount(long accountNumber) {
+        closedAccounts.remove(accountNumber);
+    }
+
+    @FunctionalInterface
+    public interface JournalWork<T> {
+        T run() throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface StampedJournalWork<T> {
+        T run(Timestamp now) throws SQLException;
+    }
+
+    // ──── WRITER LOOP: one group = first request + whatever arrives within max-delay ────
+
+    private void runWriter() {
+        List<PendingTransaction> group = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                group.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (group.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingTransaction next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) break;
+                    group.add(next);
+                }
+            } catch (InterruptedException e) {
+                queue.drainTo(group, maxBatch - group.size());    // shutting down — flush what is left
+            }
+            if (!group.isEmpty()) {
+                try {
+                    commitGroup(group);
+                } catch (Throwable t) {
+                    // Failed after the commit (cache, feed) — release whoever is still waiting, keep writing
+                    group.forEach(p -> p.result.completeExceptionally(t));
+                }
+                group.clear();
+            }
+        }
+    }
+
+    // ──── COMMIT one group, then acknowledge every caller ────
+
+    private void commitGroup(List<PendingTransaction> group) {
+        try {
+            runStamped(now -> {
+                group.forEach(p -> p.txn.setTransactionDate(now.toString()));
+                applyGroup(group);
+                return null;
+            });
+        } catch (Throwable t) {
+            group.forEach(p -> p.result.completeExceptionally(t));
+            return;
+        }
+        // Committed — refresh the cache in commit order, then release the callers
+        long committedAt = System.currentTimeMillis();
+        List<BalanceEvent> events = new ArrayList<>(group.size());
+        for (PendingTransaction p : group) {
+            if (p.error != null) {
+                p.result.completeExceptionally(p.error);
+            } else {
+                accountCache.put(p.outcome);
+                p.result.complete(p.outcome);
+                if (p.outcome != null) {
+                    events.add(new BalanceEvent(p.outcome.getAccountNumber(), p.txn.getTransactionType(),
+                            p.txn.getAmount(), p.outcome.getBalance(), committedAt));
+                }
+            }
+        }
+        balanceFeed.publish(events);    // only buffers — slow subscribers never hold up the next group
+    }
+
+    private void applyGroup(List<PendingTransaction> group) throws SQLException {
+        // Lock every touched account so the starting balances cannot move under us
+        Set<Long> accountNumbers = new TreeSet<>();
+        group.forEach(p -> accountNumbers.add(p.txn.getAccountNumber()));
+        Map<Long, Account> accounts = accountRepository.lockAccounts(accountNumbers);
+
+        // Accounts being deleted take no new rows — their callers are failed, not applied
+        List<Transaction> txns = new ArrayList<>(group.size());
+        for (PendingTransaction p : group) {
+            if (closedAccounts.contains(p.txn.getAccountNumber())) {
+                p.error = new IllegalArgumentException("Account #" + p.txn.getAccountNumber() + " is being deleted");
+            } else {
+                txns.add(p.txn);
+            }
+        }
+        int[] updated = accountRepository.applyBalanceDeltas(txns);
+
+        // Journal only the transactions whose conditional update succeeded
+        List<Transaction> journal = new ArrayList<>(group.size());
+        int i = 0;    // position in txns / updated
+        for (PendingTransaction p : group) {
+            if (p.error != null) continue;    // account being deleted
+            Account acc = accounts.get(p.txn.getAccountNumber());
+            boolean applied = updated[i++] > 0;
+            if (acc == null) {
+                p.outcome = null;    // not found
+            } else if (!applied) {
+                p.error = new IllegalArgumentException("Insufficient balance");
+            } else {
+                // Same arithmetic as the database applied, in the same order
+                double delta = "WITHDRAW".equals(p.txn.getTransactionType()) ? -p.txn.getAmount() : p.txn.getAmount();
+                acc.setBalance(acc.getBalance() + delta);
+                p.outcome = new Account(acc.getAccountNumber(), acc.getHolderName(), acc.getAccountType(), acc.getBalance());
+                journal.add(p.txn);
+            }
+        }
+        if (!journal.isEmpty()) {
+            transactionRepository.insertBatch(journal);
+            transactionTotalsRepository.add(journal);    // running totals, same commit
+        }
+    }
+
+    // ──── One caller waiting for the group commit ────
+
+    private static class PendingTransaction {
+        final Transaction txn;
+        final CompletableFuture<Account> result = new CompletableFuture<>();
+        Account outcome;
+        RuntimeException error;
+
+        PendingTransaction(Transaction txn) {
+            this.txn = txn;
+        }
+    }
+}
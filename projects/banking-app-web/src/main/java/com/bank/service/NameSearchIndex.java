@@ -0,0 +1,242 @@
+package com.bank.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over account holder names.
+ * Every lower-cased name gets a document id and is split into 3-character grams;
+ * each gram keeps an ascending int[] posting list of document ids. A substring query
+ * walks the shortest posting list of its grams, gallops through the others in step,
+ * verifies the candidate name and keeps the best `limit` matches — no table scan.
+ *
+ * Ids are append-only: an update indexes the new name under a fresh id and a delete
+ * just tombstones the id; stale postings are skipped and compacted away once they
+ * outnumber the live ones.
+ *
+ * Kept in sync by AccountService on create/update/delete and by BulkImportService.
+ */
+@Component
+public class NameSearchIndex {
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByAccount = new HashMap<>();
+    private long[] docAccounts = new long[1024];
+    private String[] docNames = new String[1024];    // null = tombstone
+    private int docCount;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ──── ADD or replace an account's name ────
+
+    public void add(long accountNumber, String holderName) {
+        String name = holderName.toLowerCase();
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByAccount.get(accountNumber);
+            if (previous != null) {
+                if (docNames[previous].equals(name)) return;    // unchanged
+                docNames[previous] = null;
+            }
+            docByAccount.put(accountNumber, index(accountNumber, name));
+            compactIfStale();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ──── REMOVE an account ────
+
+    public void remove(long accountNumber) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByAccount.remove(accountNumber);
+            if (previous != null) {
+                docNames[previous] = null;
+                compactIfStale();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docByAccount.clear();
+            docAccounts = new long[1024];
+            docNames = new String[1024];
+            docCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByAccount.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ──── SEARCH: account numbers whose name contains the keyword, best match first ────
+
+    public List<Long> search(String keyword, int limit) {
+        String kw = keyword.toLowerCase().trim();
+        if (kw.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            // Max-heap of the best `limit` matches seen so far — the worst one is on top
+            TopMatches best = new TopMatches(kw, limit);
+            if (kw.length() < 3) {
+                // 1-2 characters can sit anywhere in a name — check every live name in memory
+                for (int doc = 0; doc < docCount; doc++) {
+                    best.offer(doc);
+                }
+            } else {
+                List<Postings> lists = new ArrayList<>();
+                for (String gram : grams(kw)) {
+                    Postings list = postings.get(gram);
+                    if (list == null) return List.of();
+                    lists.add(list);
+                }
+                lists.sort(Comparator.comparingInt(list -> list.size));
+
+                // Walk the shortest list; the others advance monotonically (galloping), never rescanned
+                Postings shortest = lists.get(0);
+                int[] cursors = new int[lists.size()];
+                outer:
+                for (int i = 0; i < shortest.size; i++) {
+                    int doc = shortest.docs[i];
+                    for (int j = 1; j < lists.size(); j++) {
+                        cursors[j] = lists.get(j).seek(doc, cursors[j]);
+                        if (cursors[j] == lists.get(j).size) break outer;
+                        if (lists.get(j).docs[cursors[j]] != doc) continue outer;
+                    }
+                    best.offer(doc);
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(best.heap);
+            matches.sort(Match.ORDER);
+            List<Long> result = new ArrayList<>(matches.size());
+            for (Match match : matches) result.add(match.accountNumber());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ──── HELPERS ────
+
+    // 0 = exact name, 1 = name prefix, 2 = word prefix, 3 = substring, -1 = no match
+    private static int rank(String name, String kw, String wordPrefix) {
+        int at = name.indexOf(kw);
+        if (at < 0) return -1;
+        if (at == 0) return name.length() == kw.length() ? 0 : 1;
+        return name.charAt(at - 1) == ' ' || name.indexOf(wordPrefix, at) >= 0 ? 2 : 3;
+    }
+
+    private int index(long accountNumber, String name) {
+        if (docCount == docNames.length) {
+            docAccounts = Arrays.copyOf(docAccounts, docCount * 2);
+            docNames = Arrays.copyOf(docNames, docCount * 2);
+        }
+        int doc = docCount++;
+        docAccounts[doc] = accountNumber;
+        docNames[doc] = name;
+        for (String gram : grams(name)) {
+            postings.computeIfAbsent(gram, g -> new Postings()).append(doc);
+        }
+        return doc;
+    }
+
+    // Re-number the live names once tombstones are the majority
+    private void compactIfStale() {
+        int live = docByAccount.size();
+        if (docCount < 1024 || docCount - live <= live) return;
+
+        long[] accounts = Arrays.copyOf(docAccounts, docCount);
+        String[] names = Arrays.copyOf(docNames, docCount);
+        int count = docCount;
+        postings.clear();
+        docByAccount.clear();
+        docCount = 0;
+        for (int doc = 0; doc < count; doc++) {
+            if (names[doc] != null) docByAccount.put(accounts[doc], index(accounts[doc], names[doc]));
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    // Ascending document ids for one gram — ids are appended in increasing order
+    private static class Postings {
+        int[] docs = new int[4];
+        int size;
+
+        void append(int doc) {
+            if (size == docs.length) docs = Arrays.copyOf(docs, size * 2);
+            docs[size++] = doc;
+        }
+
+        // First position >= from whose id is >= doc (size if none) — gallop, then binary search
+        int seek(int doc, int from) {
+            int step = 1;
+            int hi = from;
+            while (hi < size && docs[hi] < doc) {
+                from = hi + 1;
+                hi += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(docs, from, Math.min(hi + 1, size), doc);
+            return found >= 0 ? found : -found - 1;
+        }
+    }
+
+    // Bounded max-heap of the best matches for one query; rejects worse candidates without allocating
+    private class TopMatches {
+        final String kw;
+        final String wordPrefix;
+        final int limit;
+        final PriorityQueue<Match> heap;
+
+        TopMatches(String kw, int limit) {
+            this.kw = kw;
+            this.wordPrefix = " " + kw;
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, Match.ORDER.reversed());
+        }
+
+        void offer(int doc) {
+            String name = docNames[doc];
+            if (name == null) return;    // tombstone
+            int rank = rank(name, kw, wordPrefix);
+            if (rank < 0) return;
+            if (heap.size() == limit) {
+                Match worst = heap.peek();
+                if (rank > worst.rank() || (rank == worst.rank() && name.length() > worst.length())) return;
+            }
+            heap.add(new Match(docAccounts[doc], name.length(), rank));
+            if (heap.size() > limit) heap.poll();
+        }
+    }
+
+    private record Match(long accountNumber, int length, int rank) {
+        static final Comparator<Match> ORDER = Comparator.comparingInt(Match::rank)
+                .thenComparingInt(Match::length)
+                .thenComparingLong(Match::accountNumber);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bank.service;
+
+/**
+ * Thrown when a write is refused by the AdmissionLimiter because the journal is saturated.
+ * Controllers answer 503 Service Unavailable with a Retry-After header.
+ */
+public class OverloadedException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public OverloadedException(int limit, int retryAfterSeconds) {
+        super("Too many pending writes (limit " + limit + ") - retry in " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
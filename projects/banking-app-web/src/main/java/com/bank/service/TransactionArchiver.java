@@ -0,0 +1,105 @@
+package com.bank.service;
+
+import com.bank.model.TransactionPartition;
+import com.bank.repository.TransactionPartitionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves cold monthly partitions out of the database.
+ * A partition is exported in history-index order to a gzip'd CSV in bank.partitions.archive-dir,
+ * its per-account totals are recorded (so a totals rebuild still counts it), then its table
+ * is dropped. History pages that reach an archived month read the archive file on demand.
+ *
+ * Only months before the current one can be archived; their tables no longer receive inserts.
+ * With bank.partitions.hot-months > 0, months older than that are archived at startup.
+ */
+@Service
+public class TransactionArchiver {
+
+    private final TransactionPartitionRepository transactionPartitionRepository;
+    private final TransactionTotalsRepository transactionTotalsRepository;
+    private final JournalWriter journalWriter;
+    private final Path archiveDir;
+    private final int hotMonths;
+
+    public TransactionArchiver(TransactionPartitionRepository transactionPartitionRepository,
+                               TransactionTotalsRepository transactionTotalsRepository,
+                               JournalWriter journalWriter,
+                               @Value("${bank.partitions.archive-dir:archive}") String archiveDir,
+                               @Value("${bank.partitions.hot-months:0}") int hotMonths) {
+        this.transactionPartitionRepository = transactionPartitionRepository;
+        this.transactionTotalsRepository = transactionTotalsRepository;
+        this.journalWriter = journalWriter;
+        this.archiveDir = Path.of(archiveDir);
+        this.hotMonths = hotMonths;
+    }
+
+    // ──── LIST every partition, oldest first ────
+
+    public List<TransactionPartition> getPartitions() {
+        return transactionPartitionRepository.findAll();
+    }
+
+    // ──── ARCHIVE one month — IllegalArgumentException if it is not an online past month ────
+
+    public TransactionPartition archive(YearMonth month) {
+        TransactionPartition partition = transactionPartitionRepository.find(month);
+        if (partition == null) throw new IllegalArgumentException("No partition for " + month);
+        if (partition.isArchived()) return partition;
+        if (!month.isBefore(YearMonth.now())) {
+            throw new IllegalArgumentException("Only months before " + YearMonth.now() + " can be archived");
+        }
+
+        try {
+            long start = System.nanoTime();
+            Files.createDirectories(archiveDir);
+            Path file = archiveDir.resolve(partition.getTableName() + ".csv.gz").toAbsolutePath();
+            long rows = transactionPartitionRepository.exportTo(month, file);
+
+            // Check, totals and catalog switch all happen between group commits; a delete that
+            // touched the month while it was exported means the file is stale — export again later.
+            // The table is dropped under the same lock, so nothing can write to it after the check.
+            journalWriter.runLocked(() -> {
+                journalWriter.runExclusive(() -> {
+                    if (transactionPartitionRepository.countRows(month) != rows) {
+                        throw new SQLException("Partition " + month + " changed during export");
+                    }
+                    transactionTotalsRepository.recordArchived(partition.getMonth(), partition.getTableName());
+                    return null;
+                });
+                transactionPartitionRepository.markArchived(month, file.toString(), rows);    // DDL — own connection
+                return null;
+            });
+
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("Archived partition %s: %d rows to %s (%.1fs, %d bytes)%n",
+                    month, rows, file, seconds, Files.size(file));
+            return transactionPartitionRepository.find(month);
+        } catch (IOException | SQLException e) {
+            throw new RuntimeException("Error archiving partition " + month, e);
+        }
+    }
+
+    // Archive every online month older than bank.partitions.hot-months — called once at startup
+    public void archiveColdPartitions() {
+        if (hotMonths <= 0) return;
+
+        YearMonth oldestHot = YearMonth.now().minusMonths(hotMonths - 1);
+        List<YearMonth> cold = new ArrayList<>();
+        for (TransactionPartition p : transactionPartitionRepository.findAll()) {
+            YearMonth month = YearMonth.parse(p.getMonth());
+            if (!p.isArchived() && month.isBefore(oldestHot)) cold.add(month);
+        }
+        cold.forEach(this::archive);
+    }
+}
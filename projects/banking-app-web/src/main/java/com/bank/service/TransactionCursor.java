@@ -0,0 +1,51 @@
+package com.bank.service;
+
+import com.bank.model.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+/**
+ * Keyset continuation token for transaction history pages.
+ * Holds the (transaction_date, transaction_id) of the last row a client has seen,
+ * encoded as an opaque URL-safe string.
+ */
+public class TransactionCursor {
+
+    private final Timestamp transactionDate;
+    private final int transactionId;
+
+    public TransactionCursor(Timestamp transactionDate, int transactionId) {
+        this.transactionDate = transactionDate;
+        this.transactionId = transactionId;
+    }
+
+    public Timestamp getTransactionDate() {
+        return transactionDate;
+    }
+
+    public int getTransactionId() {
+        return transactionId;
+    }
+
+    // ──── ENCODE the position just after the given row ────
+
+    public static String encode(Transaction last) {
+        String raw = last.getTransactionDate() + "|" + last.getTransactionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ──── DECODE a token sent back by the client ────
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new TransactionCursor(Timestamp.valueOf(raw.substring(0, sep)),
+                    Integer.parseInt(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid continuation token");
+        }
+    }
+}
@@ -1,24 +1,61 @@
 /**
  * accounts.js — Loads account data from REST API and populates the table.
  * Provides delete functionality for each account row.
+ * Balances stay current through the SSE balance feed instead of re-fetching.
  */
 
 const API_BASE = "/api/accounts";
 
-// Load accounts when the page opens
-window.addEventListener("DOMContentLoaded", loadAccounts);
+// Cursor for the next page (X-Next-After header); null when the last page is shown
+let nextAfter = null;
+
+// Load the first page when the page opens, then follow balance changes live
+window.addEventListener("DOMContentLoaded", () => {
+    loadAccounts(null);
+    subscribeToBalances();
+});
+
+/**
+ * Opens the Server-Sent Events feed and updates the balance cell of any row shown.
+ * EventSource reconnects by itself; if the server dropped events, reload the table.
+ */
+function subscribeToBalances() {
+    const feed = new EventSource(API_BASE + "/feed");
+
+    feed.addEventListener("balance", event => {
+        const change = JSON.parse(event.data);
+        const cell = document.getElementById("balance-" + change.accountNumber);
+        if (cell) {
+            cell.textContent = formatBalance(change.balance);
+        }
+    });
+    feed.addEventListener("dropped", () => loadAccounts(null));
+}
+
+function formatBalance(balance) {
+    return balance.toLocaleString("en-IN", { minimumFractionDigits: 2 });
+}
 
 /**
- * Fetches all accounts from the API and builds table rows dynamically.
+ * Fetches one page of accounts from the API and appends table rows dynamically.
+ * Pass null to start again from the first page.
  */
-function loadAccounts() {
-    fetch(API_BASE)
-        .then(response => response.json())
+function loadAccounts(after) {
+    const url = after === null ? API_BASE : API_BASE + "?after=" + after;
+
+    fetch(url)
+        .then(response => {
+            nextAfter = response.headers.get("X-Next-After");
+            document.getElementById("loadMoreBtn").style.display = nextAfter ? "inline-block" : "none";
+            return response.json();
+        })
         .then(accounts => {
             const tbody = document.getElementById("accountsBody");
-            tbody.innerHTML = "";    // clear existing rows before reloading
+            if (after === null) {
+                tbody.innerHTML = "";    // clear existing rows before reloading
+            }
 
-            if (accounts.length === 0) {
+            if (accounts.length === 0 && after === null) {
                 tbody.innerHTML = '<tr><td colspan="5" style="text-align:center;">No accounts found</td></tr>';
                 return;
             }
@@ -33,7 +70,7 @@ function loadAccounts() {
                     <td>${acc.accountNumber}</td>
                     <td>${acc.holderName}</td>
                     <td><span class="badge ${badgeClass}">${acc.accountType}</span></td>
-                    <td>${acc.balance.toLocaleString("en-IN", { minimumFractionDigits: 2 })}</td>
+                    <td id="balance-${acc.accountNumber}">${formatBalance(acc.balance)}</td>
                     <td>
                         <button class="btn btn-danger btn-sm"
                                 onclick="deleteAccount(${acc.accountNumber})">Delete</button>
@@ -58,8 +95,8 @@ function deleteAccount(accNo) {
 
     fetch(API_BASE + "/" + accNo, { method: "DELETE" })
         .then(response => {
-            if (response.status === 204) {
-                loadAccounts();    // refresh the table
+            if (response.status === 204 || response.status === 202) {
+                loadAccounts(null);    // refresh the table (202: history is still being removed)
             } else {
                 alert("Failed to delete account #" + accNo);
             }
@@ -0,0 +1,68 @@
+package com.bank.benchmark;
+
+import com.bank.model.Account;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JMH benchmarks for AccountRepository against an embedded H2 database
+ * pre-loaded with tableSize accounts: insert, findByAccountNumber, one 100-row
+ * keyset page (findPage) and the LIKE-based searchByName, average time per call.
+ *
+ * Run with: mvn test -Pjmh -Djmh.args=AccountRepositoryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountRepositoryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int tableSize;
+
+    private BenchmarkDatabase db;
+    private final AtomicLong nextAccountNumber = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class Rng {
+        final SplittableRandom random = new SplittableRandom(42);
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        db = new BenchmarkDatabase(tableSize);
+        nextAccountNumber.set(BenchmarkDatabase.FIRST_ACCOUNT + tableSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        db.close();
+    }
+
+    @Benchmark
+    public Account insert() throws Exception {
+        long number = nextAccountNumber.getAndIncrement();
+        return db.accountRepository.insert(new Account(number, BenchmarkDatabase.name((int) number), "SAVINGS", 0));
+    }
+
+    @Benchmark
+    public Account findByAccountNumber(Rng rng) throws Exception {
+        return db.accountRepository.findByAccountNumber(BenchmarkDatabase.FIRST_ACCOUNT + rng.random.nextInt(tableSize));
+    }
+
+    @Benchmark
+    public List<Account> findPage(Rng rng) throws Exception {
+        return db.accountRepository.findPage(BenchmarkDatabase.FIRST_ACCOUNT + rng.random.nextInt(tableSize), 100);
+    }
+
+    @Benchmark
+    public List<Account> searchByNameLike() throws Exception {
+        return db.accountRepository.searchByName("nair 12");
+    }
+}
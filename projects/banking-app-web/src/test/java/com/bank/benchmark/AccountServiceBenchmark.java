@@ -0,0 +1,103 @@
+package com.bank.benchmark;
+
+import com.bank.model.Account;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for AccountService against an embedded H2 database with
+ * 10,000 accounts: deposit/withdraw throughput through the group-committing
+ * JournalWriter at 1, 8 and 64 threads, cached getByAccountNumber, and the
+ * trigram-indexed searchByName for a selective and a broad keyword.
+ *
+ * Run with: mvn test -Pjmh -Djmh.args=AccountServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountServiceBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+
+    private BenchmarkDatabase db;
+
+    @State(Scope.Thread)
+    public static class Rng {
+        final SplittableRandom random = new SplittableRandom();
+
+        long account() {
+            return BenchmarkDatabase.FIRST_ACCOUNT + random.nextInt(ACCOUNTS);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        db = new BenchmarkDatabase(ACCOUNTS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        db.close();
+    }
+
+    // ──── DEPOSIT / WITHDRAW at 1, 8, 64 threads ────
+
+    @Benchmark
+    @Threads(1)
+    public Account deposit_1(Rng rng) {
+        return db.accountService.deposit(rng.account(), 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Account deposit_8(Rng rng) {
+        return db.accountService.deposit(rng.account(), 1);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Account deposit_64(Rng rng) {
+        return db.accountService.deposit(rng.account(), 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Account withdraw_1(Rng rng) {
+        return db.accountService.withdraw(rng.account(), 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Account withdraw_8(Rng rng) {
+        return db.accountService.withdraw(rng.account(), 1);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Account withdraw_64(Rng rng) {
+        return db.accountService.withdraw(rng.account(), 1);
+    }
+
+    // ──── READS ────
+
+    @Benchmark
+    public Account getByAccountNumber(Rng rng) {
+        return db.accountService.getByAccountNumber(rng.account());
+    }
+
+    @Benchmark
+    public List<Account> searchByNameSelective() {
+        return db.accountService.searchByName("nair 12", 20);
+    }
+
+    @Benchmark
+    public List<Account> searchByNameBroad() {
+        return db.accountService.searchByName("kumar", 20);
+    }
+}
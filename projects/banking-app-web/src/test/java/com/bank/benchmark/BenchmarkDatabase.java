@@ -0,0 +1,93 @@
+package com.bank.benchmark;
+
+import com.bank.config.DatabaseManager;
+import com.bank.model.Account;
+import com.bank.repository.AccountDeletionRepository;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.BalanceCheckpointRepository;
+import com.bank.repository.TransactionPartitionRepository;
+import com.bank.repository.TransactionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import com.bank.service.AccountCache;
+import com.bank.service.AccountDeletionJob;
+import com.bank.service.AccountService;
+import com.bank.service.AdmissionLimiter;
+import com.bank.service.BalanceCheckpointJob;
+import com.bank.service.BalanceFeed;
+import com.bank.service.JournalWriter;
+import com.bank.service.NameSearchIndex;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A private embedded H2 database wired the way the application wires it
+ * (HikariCP pool, repositories, JournalWriter, AccountCache, NameSearchIndex)
+ * but without a Spring context, so each benchmark trial starts from a known state.
+ */
+class BenchmarkDatabase implements AutoCloseable {
+
+    static final long FIRST_ACCOUNT = 100_000;
+    private static final String[] FIRST = {"Ravi", "Priya", "Anil", "Sunita", "Vikram", "Meera", "Arjun", "Kavya"};
+    private static final String[] LAST = {"Kumar", "Sharma", "Singh", "Patel", "Reddy", "Iyer", "Nair", "Gupta"};
+
+    final HikariDataSource dataSource;
+    final AccountRepository accountRepository;
+    final TransactionRepository transactionRepository;
+    final TransactionTotalsRepository transactionTotalsRepository;
+    final JournalWriter journalWriter;
+    final AccountService accountService;
+
+    BenchmarkDatabase(int accounts) throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:jmh" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(16);
+        dataSource = new HikariDataSource(config);
+        TransactionPartitionRepository partitions = new TransactionPartitionRepository(dataSource);
+        new DatabaseManager(dataSource, partitions).initializeDatabase();
+
+        accountRepository = new AccountRepository(dataSource);
+        transactionRepository = new TransactionRepository(dataSource, partitions);
+        transactionTotalsRepository = new TransactionTotalsRepository(dataSource);
+        AccountCache cache = new AccountCache(10_000, new SimpleMeterRegistry());
+        BalanceFeed feed = new BalanceFeed(256, 1, 0, new SimpleMeterRegistry());
+        journalWriter = new JournalWriter(accountRepository, transactionRepository, transactionTotalsRepository,
+                new DataSourceTransactionManager(dataSource), cache, feed, 256, 2);
+        journalWriter.start();
+        NameSearchIndex nameSearchIndex = new NameSearchIndex();
+        BalanceCheckpointRepository checkpoints = new BalanceCheckpointRepository(dataSource);
+        AccountDeletionJob deletionJob = new AccountDeletionJob(accountRepository, transactionRepository,
+                transactionTotalsRepository, new AccountDeletionRepository(dataSource), checkpoints,
+                partitions, journalWriter, cache, nameSearchIndex, 5000);
+        BalanceCheckpointJob checkpointJob = new BalanceCheckpointJob(accountRepository, checkpoints, journalWriter, 0, 10_000);
+        accountService = new AccountService(accountRepository, transactionRepository,
+                transactionTotalsRepository, journalWriter, cache, nameSearchIndex, deletionJob, checkpointJob,
+                new AdmissionLimiter(false, 256, 16, 4096, 100, 0.9, 1, new SimpleMeterRegistry()), 30_000);
+
+        List<Account> chunk = new ArrayList<>();
+        for (int i = 0; i < accounts; i++) {
+            chunk.add(new Account(FIRST_ACCOUNT + i, name(i), i % 2 == 0 ? "SAVINGS" : "CURRENT", 1_000_000));
+            if (chunk.size() == 1000 || i == accounts - 1) {
+                accountRepository.insertBatchIfAbsent(chunk);
+                chunk.clear();
+            }
+        }
+        accountService.rebuildSearchIndex();
+    }
+
+    static String name(int i) {
+        return FIRST[i % FIRST.length] + " " + LAST[(i / FIRST.length) % LAST.length] + " " + i;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        journalWriter.stop();
+        dataSource.close();
+    }
+}
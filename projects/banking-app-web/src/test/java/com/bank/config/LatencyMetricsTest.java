@@ -0,0 +1,47 @@
+package com.bank.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Handlers returning a CompletableFuture are timed until the future completes,
+ * not just until it is returned.
+ */
+public class LatencyMetricsTest {
+
+    @Test
+    void asyncHandlerIsTimedUntilCompletion() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AsyncController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LatencyMetrics(registry));
+        AsyncController controller = factory.getProxy();
+
+        CompletableFuture<String> commit = new CompletableFuture<>();
+        CompletableFuture<String> response = controller.deposit(commit);
+        Timer timer = registry.get("bank.controller").tag("method", "deposit").timer();
+        assertThat(timer.count()).isZero();    // returned, but not finished
+
+        Thread.sleep(50);
+        commit.complete("ok");
+
+        assertThat(response.get()).isEqualTo("ok");
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+    }
+
+    @RestController
+    static class AsyncController {
+        public CompletableFuture<String> deposit(CompletableFuture<String> commit) {
+            return commit;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SyntheticDataGenerator: same seed gives the same rows,
+ * balances agree with the generated journal, and traffic is skewed to a few hot accounts.
+ */
+public class SyntheticDataGeneratorTest {
+
+    private static final int ACCOUNTS = 1000;
+    private static final int TRANSACTIONS = 50_000;
+
+    @Test
+    void sameSeedGeneratesSameRows() throws Exception {
+        assertThat(transactions(new SyntheticDataGenerator(7, ACCOUNTS, TRANSACTIONS, 1.1)))
+                .isEqualTo(transactions(new SyntheticDataGenerator(7, ACCOUNTS, TRANSACTIONS, 1.1)))
+                .isNotEqualTo(transactions(new SyntheticDataGenerator(8, ACCOUNTS, TRANSACTIONS, 1.1)));
+    }
+
+    @Test
+    void balancesMatchOpeningBalancePlusJournal() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42, ACCOUNTS, TRANSACTIONS, 1.1);
+        double[] opening = new SyntheticDataGenerator(42, ACCOUNTS, 0, 1.1).finalBalances();
+        double[] replayed = opening.clone();
+        generator.forEachTransaction((accountNumber, type, amount, epochMillis) -> {
+            int i = (int) (accountNumber - SyntheticDataGenerator.FIRST_ACCOUNT);
+            replayed[i] += "DEPOSIT".equals(type) ? amount : -amount;
+            assertThat(replayed[i]).isGreaterThanOrEqualTo(-1e-6);    // never overdrawn
+        });
+
+        assertThat(generator.finalBalances()).containsExactly(replayed);
+    }
+
+    @Test
+    void trafficIsSkewedToHotAccounts() throws Exception {
+        int[] hits = new int[ACCOUNTS];
+        new SyntheticDataGenerator(42, ACCOUNTS, TRANSACTIONS, 1.1).forEachTransaction(
+                (accountNumber, type, amount, epochMillis) -> hits[(int) (accountNumber - SyntheticDataGenerator.FIRST_ACCOUNT)]++);
+        Arrays.sort(hits);
+
+        int top10 = 0;
+        for (int i = ACCOUNTS - 10; i < ACCOUNTS; i++) top10 += hits[i];
+        assertThat(top10).isGreaterThan(TRANSACTIONS / 3);    // 1% of the accounts, over a third of the traffic
+    }
+
+    private static List<String> transactions(SyntheticDataGenerator generator) throws Exception {
+        List<String> rows = new ArrayList<>();
+        generator.forEachTransaction((accountNumber, type, amount, epochMillis) ->
+                rows.add(accountNumber + "," + type + "," + amount + "," + epochMillis));
+        return rows;
+    }
+}
@@ -0,0 +1,48 @@
+package com.bank.controller;
+
+import com.bank.service.JournalWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * A deposit whose group commit never completes (stalled journal writer) is answered
+ * 503 + Retry-After after bank.journal.commit-timeout-ms, not held for the async request timeout.
+ */
+@SpringBootTest(properties = {
+        "bank.journal.commit-timeout-ms=200",
+        "bank.admission.retry-after-seconds=3",
+        "bank.checkpoints.interval-minutes=0",
+        "bank.interest.check-interval-minutes=0"
+})
+public class BalanceChangeTimeoutTest {
+
+    @MockBean
+    private JournalWriter journalWriter;
+
+    @Autowired
+    private AccountController accountController;
+
+    @Test
+    void stalledCommitIsAnswered503() throws Exception {
+        when(journalWriter.submit(any())).thenReturn(new CompletableFuture<>());    // never committed
+
+        long start = System.nanoTime();
+        ResponseEntity<?> response = accountController.deposit(1001, 10).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+}
@@ -0,0 +1,84 @@
+package com.bank.controller;
+
+import com.bank.BankingApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test for POST /api/accounts/{n}/deposit.
+ * Starts the application twice — once with a plain DriverManager-style DataSource
+ * (a new H2 connection per repository call) and once with the HikariCP pool —
+ * and prints the deposit throughput of each run.
+ *
+ * Run with: mvn test -Pperf-tests
+ */
+@Tag("perf")
+public class DepositLoadTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 500;
+
+    @Test
+    void pooledDataSourceIncreasesDepositThroughput() throws Exception {
+        double unpooled = runLoad("--spring.datasource.type=org.springframework.jdbc.datasource.SimpleDriverDataSource");
+        double pooled = runLoad("--spring.datasource.type=com.zaxxer.hikari.HikariDataSource");
+
+        System.out.printf("Deposit throughput: unpooled=%.0f req/s, pooled=%.0f req/s (x%.2f)%n",
+                unpooled, pooled, pooled / unpooled);
+    }
+
+    // ──── HELPER: start the app, hammer the deposit endpoint, shut it down ────
+
+    private double runLoad(String dataSourceType) throws Exception {
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(BankingApplication.class)
+                .run("--server.port=0", dataSourceType)) {
+
+            int port = Integer.parseInt(ctx.getEnvironment().getProperty("local.server.port"));
+            URI uri = URI.create("http://localhost:" + port + "/api/accounts/1001/deposit?amount=1");
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(THREADS)).build();
+
+            // Warm-up so JIT and Tomcat threads are ready before measuring
+            send(client, uri, THREADS, 50);
+
+            long start = System.nanoTime();
+            int ok = send(client, uri, THREADS, REQUESTS_PER_THREAD);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            assertThat(ok).isEqualTo(THREADS * REQUESTS_PER_THREAD);
+            return ok / seconds;
+        }
+    }
+
+    private int send(HttpClient client, URI uri, int threads, int perThread) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        AtomicInteger ok = new AtomicInteger();
+        HttpRequest request = HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    HttpResponse<Void> res = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (res.statusCode() == 200) ok.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+        return ok.get();
+    }
+}
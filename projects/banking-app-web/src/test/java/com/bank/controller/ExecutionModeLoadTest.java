@@ -0,0 +1,116 @@
+package com.bank.controller;
+
+import com.bank.BankingApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load harness comparing request execution modes: Tomcat's platform thread pool
+ * versus virtual threads (spring.threads.virtual.enabled, JDK 21+ only — skipped
+ * on older runtimes). Each run starts the application, opens N concurrent clients
+ * (one keep-alive connection each) and has every client send REQUESTS_PER_CLIENT
+ * requests back to back: 80% GET /api/accounts/{n}, 20% POST .../deposit.
+ * Prints throughput and p50/p99/p999 latency per mode and client count.
+ *
+ * Client counts default to 1000,4000 — every client costs two sockets in this one
+ * JVM, so 10000 needs `ulimit -n` above 20000:
+ *   mvn test -Pperf-tests -Dtest=ExecutionModeLoadTest -Dload.clients=1000,10000
+ */
+@Tag("perf")
+public class ExecutionModeLoadTest {
+
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final long[] ACCOUNTS = {1001, 1002, 1003, 1004};
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        int[] clientCounts = Arrays.stream(System.getProperty("load.clients", "1000,4000").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+
+        List<String> report = new ArrayList<>();
+        for (String mode : new String[]{"platform", "virtual"}) {
+            if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                report.add(String.format("%-8s skipped - needs JDK 21+, running on %s", mode, Runtime.version()));
+                continue;
+            }
+            try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(BankingApplication.class)
+                    .run("--server.port=0", "--spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                         "--bank.admission.enabled=false")) {    // measures queueing, so nothing is shed
+                int port = Integer.parseInt(ctx.getEnvironment().getProperty("local.server.port"));
+                run(port, 200);    // warm-up
+                for (int clients : clientCounts) {
+                    report.add(String.format("%-8s %s", mode, run(port, clients)));
+                }
+            }
+        }
+        report.forEach(System.out::println);
+    }
+
+    // ──── HELPER: N clients, each a chain of async requests on its own connection ────
+
+    private String run(int port, int clients) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        long[] nanos = new long[clients * REQUESTS_PER_CLIENT];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long start = System.nanoTime();
+        CompletableFuture<?>[] chains = new CompletableFuture<?>[clients];
+        for (int c = 0; c < clients; c++) {
+            chains[c] = chain(client, port, new Random(c), REQUESTS_PER_CLIENT, nanos, next, failed);
+        }
+        CompletableFuture.allOf(chains).join();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        assertThat(failed.get()).isZero();
+        Arrays.sort(nanos);
+        return String.format("clients=%5d  %6.0f req/s  p50=%dms p99=%dms p999=%dms",
+                clients, nanos.length / seconds, p(nanos, 500), p(nanos, 990), p(nanos, 999));
+    }
+
+    private CompletableFuture<Void> chain(HttpClient client, int port, Random random, int remaining,
+                                          long[] nanos, AtomicInteger next, AtomicInteger failed) {
+        if (remaining == 0) return CompletableFuture.completedFuture(null);
+
+        long account = ACCOUNTS[random.nextInt(ACCOUNTS.length)];
+        HttpRequest request = random.nextInt(5) == 0
+                ? HttpRequest.newBuilder(uri(port, "/api/accounts/" + account + "/deposit?amount=1"))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build()
+                : HttpRequest.newBuilder(uri(port, "/api/accounts/" + account)).GET().build();
+
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenCompose(res -> {
+                    nanos[next.getAndIncrement()] = System.nanoTime() - start;
+                    if (res.statusCode() != 200) failed.incrementAndGet();
+                    return chain(client, port, random, remaining - 1, nanos, next, failed);
+                });
+    }
+
+    private URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private long p(long[] sorted, int perMille) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * perMille / 1000)] / 1_000_000;
+    }
+}
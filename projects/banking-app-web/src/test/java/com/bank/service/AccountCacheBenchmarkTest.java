@@ -0,0 +1,109 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.TransactionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Benchmark for AccountCache: getByAccountNumber latency (p50/p99) with the cache
+ * disabled and enabled, 8 reader threads, 90% of reads on 100 hot accounts out of 5000.
+ *
+ * Run with: mvn test -Pperf-tests
+ */
+@Tag("perf")
+@SpringBootTest
+public class AccountCacheBenchmarkTest {
+
+    private static final long FIRST_ACCOUNT = 930_000;
+    private static final int ACCOUNTS = 5000;
+    private static final int HOT_ACCOUNTS = 100;
+    private static final int THREADS = 8;
+    private static final int READS_PER_THREAD = 20_000;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTotalsRepository transactionTotalsRepository;
+
+    @Autowired
+    private JournalWriter journalWriter;
+
+    @Autowired
+    private AccountDeletionJob accountDeletionJob;
+
+    @Autowired
+    private BalanceCheckpointJob balanceCheckpointJob;
+
+    @Autowired
+    private AdmissionLimiter admissionLimiter;
+
+    @Test
+    void cacheCutsReadTailLatency() throws Exception {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(new Account(FIRST_ACCOUNT + i, "Reader " + i, "SAVINGS", i));
+        }
+        accountRepository.insertBatchIfAbsent(accounts);
+
+        long[] uncached = run(0);
+        long[] cached = run(10_000);
+
+        System.out.printf("getByAccountNumber without cache: p50=%dus p99=%dus%n", p(uncached, 50), p(uncached, 99));
+        System.out.printf("getByAccountNumber with cache:    p50=%dus p99=%dus%n", p(cached, 50), p(cached, 99));
+    }
+
+    // ──── HELPER: run the read mix against a service with the given cache size ────
+
+    private long[] run(int cacheSize) throws Exception {
+        AccountService service = new AccountService(accountRepository, transactionRepository,
+                transactionTotalsRepository, journalWriter, new AccountCache(cacheSize, new SimpleMeterRegistry()), new NameSearchIndex(),
+                accountDeletionJob, balanceCheckpointJob, admissionLimiter, 30_000);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            futures.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                long[] nanos = new long[READS_PER_THREAD];
+                for (int i = 0; i < READS_PER_THREAD; i++) {
+                    int index = random.nextInt(10) < 9 ? random.nextInt(HOT_ACCOUNTS) : random.nextInt(ACCOUNTS);
+                    long start = System.nanoTime();
+                    service.getByAccountNumber(FIRST_ACCOUNT + index);
+                    nanos[i] = System.nanoTime() - start;
+                }
+                return nanos;
+            }));
+        }
+
+        long[] all = new long[THREADS * READS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            System.arraycopy(futures.get(t).get(), 0, all, t * READS_PER_THREAD, READS_PER_THREAD);
+        }
+        pool.shutdown();
+        Arrays.sort(all);
+        return all;
+    }
+
+    private long p(long[] sorted, int percentile) {
+        return sorted[sorted.length * percentile / 100] / 1000;
+    }
+}
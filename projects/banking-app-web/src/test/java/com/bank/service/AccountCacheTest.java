@@ -0,0 +1,170 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Single-flight loads: concurrent misses for one account share one loader call
+ * (with or without caching), and a failed load fails every caller waiting on it.
+ * A load that races an invalidate or put never puts its (older) result back into the cache,
+ * and a read that starts after the write does not share that load.
+ */
+public class AccountCacheTest {
+
+    private static final long ACCOUNT = 1001;
+    private static final int READERS = 16;
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        assertOneLoadFor(new SimpleMeterRegistry(), 10_000);
+    }
+
+    @Test
+    void concurrentReadsShareOneLoadWithCacheDisabled() throws Exception {
+        assertOneLoadFor(new SimpleMeterRegistry(), 0);
+    }
+
+    @Test
+    void failedLoadFailsEveryWaiter() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AccountCache cache = new AccountCache(0, registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Account>> reads = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                reads.add(pool.submit(() -> cache.get(ACCOUNT, n -> {
+                    await(release);
+                    throw new RuntimeException("Error fetching account");
+                })));
+            }
+            awaitCoalesced(registry, 1);
+            release.countDown();
+
+            for (Future<Account> read : reads) {
+                assertThatThrownBy(read::get).hasRootCauseMessage("Error fetching account");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void invalidateDuringLoadKeepsStaleValueOutOfCache() throws Exception {
+        AccountCache cache = new AccountCache(10_000, new SimpleMeterRegistry());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Account> read = pool.submit(() -> cache.get(ACCOUNT, n -> {
+                loading.countDown();
+                await(release);
+                return new Account(n, "Ravi Kumar", "SAVINGS", 50000);    // read before the delete
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            cache.invalidate(ACCOUNT);                                     // account deleted meanwhile
+            release.countDown();
+            assertThat(read.get(5, TimeUnit.SECONDS).getBalance()).isEqualTo(50000.0);
+
+            assertThat(cache.size()).isZero();
+            assertThat(cache.get(ACCOUNT, n -> null)).isNull();           // next read goes to the database
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void readAfterWriteDoesNotJoinLoadStartedBeforeIt() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AccountCache cache = new AccountCache(10_000, registry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Account> before = pool.submit(() -> cache.get(ACCOUNT, n -> {
+                loading.countDown();
+                await(release);
+                return new Account(n, "Ravi Kumar", "SAVINGS", 50000);    // read before the withdrawal
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            cache.invalidate(ACCOUNT);                                     // e.g. an interest credit's invalidate
+
+            // Misses while the old load is still in flight — must load again, not wait to share it
+            Future<Account> after = pool.submit(() -> cache.get(ACCOUNT, n -> new Account(n, "Ravi Kumar", "SAVINGS", 40000)));
+            assertThat(after.get(5, TimeUnit.SECONDS).getBalance()).isEqualTo(40000.0);
+            assertThat(registry.get("bank.account.cache.coalesced").functionCounter().count()).isZero();
+
+            release.countDown();
+            assertThat(before.get(5, TimeUnit.SECONDS).getBalance()).isEqualTo(50000.0);
+            assertThat(cache.get(ACCOUNT, n -> null).getBalance()).isEqualTo(40000.0);    // cached value is the new one
+
+            cache.put(new Account(ACCOUNT, "Ravi Kumar", "SAVINGS", 30000));            // a later commit wins
+            assertThat(cache.get(ACCOUNT, n -> null).getBalance()).isEqualTo(30000.0);
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+    // ──── HELPERS ────
+
+    private void assertOneLoadFor(SimpleMeterRegistry registry, int maxSize) throws Exception {
+        AccountCache cache = new AccountCache(maxSize, registry);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(READERS);
+        try {
+            List<Future<Account>> reads = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                reads.add(pool.submit(() -> cache.get(ACCOUNT, n -> {
+                    loaderCalls.incrementAndGet();
+                    await(release);
+                    return new Account(n, "Ravi Kumar", "SAVINGS", 50000);
+                })));
+            }
+            awaitCoalesced(registry, READERS - 1);    // everyone but the leader is waiting on its load
+            release.countDown();
+
+            List<Account> results = new ArrayList<>();
+            for (Future<Account> read : reads) {
+                results.add(read.get(5, TimeUnit.SECONDS));
+            }
+            assertThat(loaderCalls).hasValue(1);
+            assertThat(results).extracting(Account::getBalance).containsOnly(50000.0);
+            assertThat(results).doesNotHaveDuplicates();    // each caller gets its own copy
+            assertThat(registry.get("bank.account.cache.loads").functionCounter().count()).isEqualTo(1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void awaitCoalesced(SimpleMeterRegistry registry, int expected) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (registry.get("bank.account.cache.coalesced").functionCounter().count() >= expected) return;
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Readers never coalesced");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
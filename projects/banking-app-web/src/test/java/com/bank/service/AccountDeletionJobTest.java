@@ -0,0 +1,110 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.AccountDeletion;
+import com.bank.model.Transaction;
+import com.bank.model.TransactionTotal;
+import com.bank.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AccountDeletionJob removes a large history in chunks, keeps the running totals
+ * consistent, reports progress, and deletes the account row last.
+ * Chunks continue across months, and the account takes no new transactions meanwhile.
+ */
+@SpringBootTest(properties = "bank.deletion.chunk-size=100")
+public class AccountDeletionJobTest {
+
+    private static final int HISTORY = 1050;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void deletesHistoryInChunksThenTheAccount() throws Exception {
+        long accountNumber = 910_001;
+        accountService.createAccount(new Account(accountNumber, "Old Account", "SAVINGS", 0));
+        List<Transaction> history = new ArrayList<>();
+        for (int i = 0; i < HISTORY; i++) {
+            history.add(new Transaction(0, accountNumber, "DEPOSIT", 1, null));
+        }
+        transactionRepository.insertBatch(history);
+        accountService.rebuildTransactionTotals();
+        double depositsBefore = depositTotal();
+
+        AccountDeletion started = accountService.deleteAccount(accountNumber);
+        assertThat(started.getTotalRows()).isEqualTo(HISTORY);
+
+        AccountDeletion progress = started;
+        for (int i = 0; i < 100 && !"DONE".equals(progress.getStatus()); i++) {
+            Thread.sleep(50);
+            progress = accountService.getDeletionProgress(accountNumber);
+        }
+
+        assertThat(progress.getStatus()).isEqualTo("DONE");
+        assertThat(progress.getDeletedRows()).isEqualTo(HISTORY);
+        assertThat(accountService.getByAccountNumber(accountNumber)).isNull();
+        assertThat(transactionRepository.findByAccountNumber(accountNumber)).isEmpty();
+        assertThat(depositTotal()).isEqualTo(depositsBefore - HISTORY);
+        assertThat(accountService.deleteAccount(accountNumber).getStatus()).isEqualTo("DONE");    // idempotent
+    }
+
+    @Test
+    void chunksSpanMonthsAndDepositsAreRejectedMeanwhile() throws Exception {
+        long accountNumber = 910_002;
+        accountService.createAccount(new Account(accountNumber, "Many Months", "SAVINGS", 0));
+        List<Transaction> history = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            history.add(new Transaction(0, accountNumber, "DEPOSIT", 1, null));    // current month
+        }
+        for (int i = 0; i < 500; i++) {
+            history.add(new Transaction(0, accountNumber, "DEPOSIT", 1, "2023-02-%02d 10:00:00".formatted(1 + i % 28)));
+        }
+        transactionRepository.insertBatch(history);
+        accountService.rebuildTransactionTotals();
+
+        AccountDeletion started = accountService.deleteAccount(accountNumber);
+        assertThat(started.getTotalRows()).isEqualTo(550);
+        // Rejected while the delete runs — or not found once it is done; never applied and then wiped
+        try {
+            assertThat(accountService.deposit(accountNumber, 10)).isNull();
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessageContaining("is being deleted");
+        }
+
+        AccountDeletion progress = started;
+        for (int i = 0; i < 100 && !"DONE".equals(progress.getStatus()); i++) {
+            Thread.sleep(50);
+            progress = accountService.getDeletionProgress(accountNumber);
+        }
+        assertThat(progress.getStatus()).isEqualTo("DONE");
+        assertThat(progress.getDeletedRows()).isEqualTo(550);
+        assertThat(transactionRepository.findByAccountNumber(accountNumber)).isEmpty();
+
+        // Reopened once done — the number can be reused
+        accountService.createAccount(new Account(accountNumber, "New Owner", "SAVINGS", 0));
+        assertThat(accountService.deposit(accountNumber, 10).getBalance()).isEqualTo(10);
+    }
+
+    @Test
+    void unknownAccountIsNotFound() {
+        assertThat(accountService.deleteAccount(919_999)).isNull();
+    }
+
+    private double depositTotal() {
+        return accountService.getTransactionTotals().stream()
+                .filter(t -> "DEPOSIT".equals(t.getTransactionType()))
+                .mapToDouble(TransactionTotal::getTotalAmount)
+                .sum();
+    }
+}
@@ -0,0 +1,102 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.TransactionTotal;
+import com.bank.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Multi-threaded stress test for AccountService.deposit/withdraw on a single hot account.
+ * Proves that concurrent balance changes are never lost, that every successful
+ * change has exactly one journal row and is counted in the running totals;
+ * prints ops/sec for the hot account.
+ */
+@SpringBootTest
+public class AccountServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPS_PER_THREAD = 250;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void concurrentDepositsAndWithdrawalsLoseNoUpdates() throws Exception {
+        long accountNumber = 900_001;
+        accountService.createAccount(new Account(accountNumber, "Hot Account", "SAVINGS", 1_000_000));
+
+        long start = System.nanoTime();
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                if (i % 2 == 0) accountService.deposit(accountNumber, 10);
+                else accountService.withdraw(accountNumber, 5);
+            }
+        });
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        int half = THREADS * OPS_PER_THREAD / 2;
+        double expected = 1_000_000 + half * 10 - half * 5;
+        assertThat(accountService.getByAccountNumber(accountNumber).getBalance()).isEqualTo(expected);
+        assertThat(transactionRepository.findByAccountNumber(accountNumber)).hasSize(THREADS * OPS_PER_THREAD);
+
+        // Running totals were maintained in the same commits as the journal rows
+        assertThat(accountService.getAccountTransactionTotals(accountNumber))
+                .extracting(TransactionTotal::getTransactionType, TransactionTotal::getTotalAmount, TransactionTotal::getCount)
+                .containsExactly(tuple("DEPOSIT", half * 10.0, (long) half), tuple("WITHDRAW", half * 5.0, (long) half));
+
+        System.out.printf("Hot account: %d threads, %.0f ops/sec%n", THREADS, THREADS * OPS_PER_THREAD / seconds);
+    }
+
+    @Test
+    void concurrentWithdrawalsNeverOverdraw() throws Exception {
+        long accountNumber = 900_002;
+        accountService.createAccount(new Account(accountNumber, "Small Balance", "CURRENT", 100));
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(20, () -> {
+            try {
+                accountService.withdraw(accountNumber, 10);
+                succeeded.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                rejected.incrementAndGet();    // "Insufficient balance"
+            }
+        });
+
+        assertThat(succeeded.get()).isEqualTo(10);
+        assertThat(rejected.get()).isEqualTo(10);
+        assertThat(accountService.getByAccountNumber(accountNumber).getBalance()).isZero();
+        assertThat(transactionRepository.findByAccountNumber(accountNumber)).hasSize(10);
+    }
+
+    // ──── HELPER: run the same task on N threads released together ────
+
+    private void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                task.run();
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+    }
+}
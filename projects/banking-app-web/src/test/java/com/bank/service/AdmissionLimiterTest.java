@@ -0,0 +1,77 @@
+package com.bank.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AdmissionLimiter refuses writes beyond its limit at once, backs the limit off
+ * when commits get slow and grows it again while commits are fast and the limit is in use.
+ */
+public class AdmissionLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void refusesWritesBeyondTheLimit() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdmissionLimiter limiter = new AdmissionLimiter(true, 2, 1, 10, 100, 0.5, 3, registry);
+
+        long first = limiter.acquire();
+        limiter.acquire();
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOfSatisfying(OverloadedException.class, e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(3));
+
+        limiter.release(first);
+        limiter.acquire();    // a permit was given back
+
+        assertThat(registry.get("bank.admission.accepted").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("bank.admission.rejected").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowCommitsShrinkTheLimitOncePerRound() {
+        AdmissionLimiter limiter = new AdmissionLimiter(true, 100, 10, 1000, 100, 0.5, 1, new SimpleMeterRegistry());
+
+        // One slow group commit completes many writes — it halves the limit once, not once per write
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) limiter.acquire();
+        for (int i = 0; i < 50; i++) limiter.complete(start, start + SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(50);
+
+        // Writes submitted after that cut can cut again, down to the floor
+        for (int round = 1; round <= 5; round++) {
+            long next = start + round * SLOW;
+            limiter.acquire();
+            limiter.complete(next, next + SLOW);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void fastCommitsGrowTheLimitWhileItIsInUse() {
+        AdmissionLimiter limiter = new AdmissionLimiter(true, 20, 10, 1000, 100, 0.5, 1, new SimpleMeterRegistry());
+
+        // Barely used — no reason to grow
+        long start = limiter.acquire();
+        limiter.complete(start, start + FAST);
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        // Half the limit in flight and every commit fast — one more permit per commit
+        for (int i = 0; i < 10; i++) limiter.acquire();
+        limiter.complete(start, start + FAST);
+        assertThat(limiter.getLimit()).isEqualTo(21);
+    }
+
+    @Test
+    void disabledLimiterAdmitsEverything() {
+        AdmissionLimiter limiter = new AdmissionLimiter(false, 1, 1, 1, 100, 0.5, 1, new SimpleMeterRegistry());
+        for (int i = 0; i < 100; i++) limiter.acquire();
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.BalanceAsOf;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * As-of balances: replayed forward from an earlier checkpoint or backward from a later one,
+ * touching only the journal rows in between.
+ */
+@SpringBootTest(properties = "bank.checkpoints.interval-minutes=0")
+public class BalanceCheckpointJobTest {
+
+    private static final long ACCOUNT = 930_001;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private BalanceCheckpointJob balanceCheckpointJob;
+
+    @Test
+    void asOfReplaysFromTheNearestCheckpoint() throws Exception {
+        accountService.createAccount(new Account(ACCOUNT, "Audited Account", "SAVINGS", 100));
+        LocalDateTime opened = tick();
+        accountService.deposit(ACCOUNT, 50);
+        LocalDateTime afterDeposit = tick();
+        accountService.withdraw(ACCOUNT, 30);
+        LocalDateTime afterWithdraw = tick();
+
+        balanceCheckpointJob.checkpointAll();
+        accountService.deposit(ACCOUNT, 5);
+        LocalDateTime afterLastDeposit = tick();
+
+        // Before the checkpoint — undone backward from it
+        assertThat(accountService.getBalanceAsOf(ACCOUNT, opened).getBalance()).isEqualTo(100);
+        assertThat(accountService.getBalanceAsOf(ACCOUNT, afterDeposit).getBalance()).isEqualTo(150);
+        assertThat(accountService.getBalanceAsOf(ACCOUNT, afterWithdraw).getBalance()).isEqualTo(120);
+
+        // After it — only the one deposit since is replayed
+        BalanceAsOf latest = accountService.getBalanceAsOf(ACCOUNT, afterLastDeposit);
+        assertThat(latest.getBalance()).isEqualTo(125);
+        assertThat(latest.getReplayedTransactions()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownAccountIsNotFound() {
+        assertThat(accountService.getBalanceAsOf(939_999, LocalDateTime.now())).isNull();
+    }
+
+    // A moment strictly between the commits before and after it
+    private static LocalDateTime tick() throws InterruptedException {
+        Thread.sleep(5);
+        LocalDateTime now = LocalDateTime.now();
+        Thread.sleep(5);
+        return now;
+    }
+}
@@ -0,0 +1,133 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.BulkImportResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bulk import: CSV/NDJSON lines are parsed one at a time, bad lines are rejected with their
+ * line number, existing account numbers are skipped, and every chunk commits on its own.
+ */
+@SpringBootTest(properties = "bank.bulk.chunk-size=2")
+public class BulkImportServiceTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Test
+    void csvRoundTripsQuotedNames() {
+        Account account = new Account(1, "Shah, \"Priya\"", "CURRENT", 120000.5);
+        String line = AccountCsv.format(account);
+
+        assertThat(line).isEqualTo("1,\"Shah, \"\"Priya\"\"\",CURRENT,120000.5");
+        Account parsed = AccountCsv.parse(line);
+        assertThat(parsed.getHolderName()).isEqualTo("Shah, \"Priya\"");
+        assertThat(parsed.getAccountType()).isEqualTo("CURRENT");
+        assertThat(parsed.getBalance()).isEqualTo(120000.5);
+
+        assertThat(AccountCsv.parse("2,Ravi Kumar, savings ,").getAccountType()).isEqualTo("SAVINGS");
+        assertThat(AccountCsv.parse("2,Ravi Kumar,SAVINGS,").getBalance()).isZero();
+        assertThatThrownBy(() -> AccountCsv.parse("2,Ravi Kumar,SAVINGS")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void csvImportCountsInsertedDuplicateAndRejectedRows() throws Exception {
+        accountService.createAccount(new Account(950_003, "Already Here", "SAVINGS", 10));
+
+        BulkImportResult result = bulkImportService.importAccounts(reader("""
+                account_number,holder_name,account_type,balance
+                950001,"Kumar, Ravi",savings,100
+                950002,Priya Shah,CURRENT,200
+
+                950003,Duplicate Of Existing,SAVINGS,300
+                950002,Duplicate In File,SAVINGS,400
+                not-a-number,Bad Number,SAVINGS,500
+                950004,,SAVINGS,600
+                950005,Too Few Fields
+                950006,Neha Gupta,SAVINGS,700
+                """), true);
+
+        assertThat(result.getReceived()).isEqualTo(8);    // header and blank line are not rows
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getDuplicates()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(3)
+                .allSatisfy(error -> assertThat(error).matches("Line (7|8|9): .+"));
+
+        assertThat(accountService.getByAccountNumber(950_001).getHolderName()).isEqualTo("Kumar, Ravi");
+        assertThat(accountService.getByAccountNumber(950_001).getAccountType()).isEqualTo("SAVINGS");
+        assertThat(accountService.getByAccountNumber(950_002).getBalance()).isEqualTo(200);
+        assertThat(accountService.getByAccountNumber(950_003).getHolderName()).isEqualTo("Already Here");
+        assertThat(accountService.getByAccountNumber(950_004)).isNull();
+        assertThat(accountService.getByAccountNumber(950_006).getBalance()).isEqualTo(700);
+        assertThat(accountService.searchByName("Neha Gupta", 10))
+                .extracting(Account::getAccountNumber).contains(950_006L);    // imported names are searchable
+    }
+
+    @Test
+    void ndjsonImportRejectsMalformedLines() throws Exception {
+        BulkImportResult result = bulkImportService.importAccounts(reader("""
+                {"accountNumber":951001,"holderName":"Amit Verma","accountType":"SAVINGS","balance":30000}
+                {"accountNumber":951002,"holderName":
+                {"accountNumber":951003,"accountType":"SAVINGS","balance":1}
+                """), false);
+
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(accountService.getByAccountNumber(951_001).getBalance()).isEqualTo(30000);
+    }
+
+    @Test
+    void failedChunkRollsBackOnlyItself() {
+        String tooLong = "x".repeat(101);    // holder_name is VARCHAR(100) — the database rejects the batch
+
+        assertThatThrownBy(() -> bulkImportService.importAccounts(reader("""
+                952001,First Chunk,SAVINGS,1
+                952002,First Chunk,SAVINGS,2
+                952003,Second Chunk,SAVINGS,3
+                952004,%s,SAVINGS,4
+                """.formatted(tooLong)), true))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(accountService.getByAccountNumber(952_001)).isNotNull();    // committed before the failure
+        assertThat(accountService.getByAccountNumber(952_002)).isNotNull();
+        assertThat(accountService.getByAccountNumber(952_003)).isNull();       // same chunk as the bad row
+    }
+
+    @Test
+    void exportPagesVisitEveryAccountOnceInOrder() throws Exception {
+        bulkImportService.importAccounts(reader("""
+                953001,Page One,SAVINGS,1
+                953002,Page One,SAVINGS,2
+                953003,Page One,SAVINGS,3
+                953004,Page Two,SAVINGS,4
+                953005,Page Two,SAVINGS,5
+                953006,Page Two,SAVINGS,6
+                953007,Page Three,SAVINGS,7
+                """), true);
+
+        List<Long> exported = new ArrayList<>();
+        accountService.exportAccounts(3, acc -> exported.add(acc.getAccountNumber()));    // pages end inside the batch
+
+        assertThat(exported).isSorted().doesNotHaveDuplicates()
+                .containsSubsequence(953_001L, 953_002L, 953_003L, 953_004L, 953_005L, 953_006L, 953_007L);
+        assertThat((long) exported.size()).isEqualTo(accountService.getAccountStats().get("totalAccounts"));
+    }
+
+    private static BufferedReader reader(String body) {
+        return new BufferedReader(new StringReader(body));
+    }
+}
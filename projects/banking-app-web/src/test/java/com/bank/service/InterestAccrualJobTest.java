@@ -0,0 +1,95 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.InterestRun;
+import com.bank.model.Transaction;
+import com.bank.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * InterestAccrualJob credits a month's interest to SAVINGS accounts chunk by chunk,
+ * journals one INTEREST row per credited account, and never credits a month twice.
+ */
+@SpringBootTest(properties = {
+        "bank.interest.check-interval-minutes=0",
+        "bank.interest.chunk-size=2",
+        "bank.interest.annual-rate=0.12"    // 1% a month
+})
+public class InterestAccrualJobTest {
+
+    private static final long FIRST_ACCOUNT = 2_100_001;
+    private static final double[] BALANCES = {1000, 2000, 0, 500, 250};
+    private static final long CURRENT = 2_100_101;
+    private static final long OPENED_LATER = 2_199_999;
+    private static final YearMonth MONTH = YearMonth.of(2019, 1);
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private InterestAccrualJob interestAccrualJob;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void creditsSavingsAccountsOncePerMonth() throws Exception {
+        for (int i = 0; i < BALANCES.length; i++) {
+            accountService.createAccount(new Account(FIRST_ACCOUNT + i, "Saver " + i,
+                    i == 1 ? "Savings" : "SAVINGS", BALANCES[i]));    // the type as typed, not normalized
+        }
+        accountService.createAccount(new Account(CURRENT, "Trader", "CURRENT", 1000));
+
+        InterestRun started = interestAccrualJob.start(MONTH);
+        accountService.createAccount(new Account(OPENED_LATER, "Latecomer", "SAVINGS", 1000));
+        InterestRun run = awaitDone(started);
+
+        assertThat(run.getStatus()).isEqualTo("DONE");
+        assertThat(run.getRate()).isEqualTo(0.01);
+        assertThat(run.getLastAccountNumber()).isEqualTo(run.getEndAccountNumber());
+        for (int i = 0; i < BALANCES.length; i++) {
+            long accountNumber = FIRST_ACCOUNT + i;
+            double interest = BALANCES[i] / 100;
+            assertThat(accountService.getByAccountNumber(accountNumber).getBalance()).isEqualTo(BALANCES[i] + interest);
+            List<Transaction> rows = interestRows(accountNumber);
+            assertThat(rows).hasSize(interest > 0 ? 1 : 0);    // nothing journaled for a zero credit
+            rows.forEach(txn -> assertThat(txn.getAmount()).isEqualTo(interest));
+        }
+        assertThat(accountService.getByAccountNumber(CURRENT).getBalance()).isEqualTo(1000);
+        assertThat(accountService.getByAccountNumber(OPENED_LATER).getBalance()).isEqualTo(1000);
+
+        // Starting the month again returns the finished run and credits nothing
+        assertThat(interestAccrualJob.start(MONTH).getStatus()).isEqualTo("DONE");
+        assertThat(accountService.getByAccountNumber(FIRST_ACCOUNT).getBalance()).isEqualTo(1010);
+        assertThat(interestRows(FIRST_ACCOUNT)).hasSize(1);
+    }
+
+    @Test
+    void onlyPastMonthsAccrue() {
+        assertThatThrownBy(() -> interestAccrualJob.start(YearMonth.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(interestAccrualJob.getProgress(YearMonth.now())).isNull();
+    }
+
+    private InterestRun awaitDone(InterestRun run) throws InterruptedException {
+        for (int i = 0; i < 100 && !"DONE".equals(run.getStatus()); i++) {
+            Thread.sleep(50);
+            run = interestAccrualJob.getProgress(MONTH);
+        }
+        return run;
+    }
+
+    private List<Transaction> interestRows(long accountNumber) throws Exception {
+        return transactionRepository.findByAccountNumber(accountNumber).stream()
+                .filter(txn -> "INTEREST".equals(txn.getTransactionType()))
+                .toList();
+    }
+}
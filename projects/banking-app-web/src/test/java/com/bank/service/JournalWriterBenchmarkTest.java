@@ -0,0 +1,95 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.Transaction;
+import com.bank.repository.AccountRepository;
+import com.bank.repository.TransactionRepository;
+import com.bank.repository.TransactionTotalsRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark for JournalWriter: write throughput with one commit per transaction
+ * (max-batch=1) versus group commit (max-batch=256, max-delay=2ms), 64 concurrent
+ * writers spread over 64 accounts.
+ *
+ * Run with: mvn test -Pperf-tests
+ */
+@Tag("perf")
+@SpringBootTest
+public class JournalWriterBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int OPS_PER_THREAD = 500;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTotalsRepository transactionTotalsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AccountCache accountCache;
+
+    @Autowired
+    private BalanceFeed balanceFeed;
+
+    @Test
+    void groupCommitRaisesWriteThroughput() throws Exception {
+        for (int i = 0; i < THREADS; i++) {
+            accountService.createAccount(new Account(920_000 + i, "Writer " + i, "SAVINGS", 0));
+        }
+
+        double perCommit = run(1, 0);
+        double grouped = run(256, 2);
+
+        System.out.printf("Journal writes: commit-per-txn=%.0f ops/s, group-commit=%.0f ops/s (x%.2f)%n",
+                perCommit, grouped, grouped / perCommit);
+    }
+
+    // ──── HELPER: THREADS callers each submit OPS_PER_THREAD deposits and wait for each ack ────
+
+    private double run(int maxBatch, long maxDelayMillis) throws Exception {
+        JournalWriter writer = new JournalWriter(accountRepository, transactionRepository, transactionTotalsRepository,
+                transactionManager, accountCache, balanceFeed, maxBatch, maxDelayMillis);
+        writer.start();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            long accountNumber = 920_000 + t;
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    Transaction txn = new Transaction(0, accountNumber, "DEPOSIT", 1, null);
+                    assertThat(writer.submit(txn).get()).isNotNull();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> f : futures) f.get();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        pool.shutdown();
+        writer.stop();
+        return THREADS * OPS_PER_THREAD / seconds;
+    }
+}
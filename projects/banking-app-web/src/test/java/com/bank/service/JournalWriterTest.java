@@ -0,0 +1,35 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Every submitted future completes — a submit after stop() is rejected at once
+ * instead of waiting on a queue nobody takes from any more.
+ */
+public class JournalWriterTest {
+
+    @Test
+    void submitAfterStopFailsImmediately() throws Exception {
+        JournalWriter writer = new JournalWriter(null, null, null, null, null, null, 256, 2);
+        writer.start();
+        writer.stop();
+
+        Transaction txn = new Transaction();
+        txn.setAccountNumber(1001);
+        txn.setTransactionType("DEPOSIT");
+        txn.setAmount(100);
+        CompletableFuture<Account> result = writer.submit(txn);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.repository.AccountRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark for holder-name search: LIKE '%kw%' scan over 200k rows versus the
+ * trigram NameSearchIndex over 200k and 2M names (p50/p99 per query, limit 20).
+ *
+ * Run with: mvn test -Pperf-tests
+ */
+@Tag("perf")
+@SpringBootTest
+public class NameSearchBenchmarkTest {
+
+    private static final long FIRST_ACCOUNT = 940_000;
+    private static final int DB_ACCOUNTS = 200_000;
+    private static final int INDEX_ACCOUNTS = 2_000_000;
+    private static final String[] FIRST = {"Ravi", "Priya", "Anil", "Sunita", "Vikram", "Meera", "Arjun", "Kavya"};
+    private static final String[] LAST = {"Kumar", "Sharma", "Singh", "Patel", "Reddy", "Iyer", "Nair", "Gupta"};
+    private static final String[] SELECTIVE = {"nair 1234", "vikram patel 99", "sunita iyer 4242", "meera 777"};
+    private static final String[] BROAD = {"kumar", "ravi", "priya s"};    // each matches 1/8 of all names
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    void indexBeatsLikeScan() throws Exception {
+        List<Account> chunk = new ArrayList<>();
+        for (int i = 0; i < DB_ACCOUNTS; i++) {
+            chunk.add(new Account(FIRST_ACCOUNT + i, name(i), "SAVINGS", 0));
+            if (chunk.size() == 1000) {
+                accountRepository.insertBatchIfAbsent(chunk);
+                chunk.clear();
+            }
+        }
+
+        report("LIKE scan, " + DB_ACCOUNTS + " rows", kw -> accountRepository.searchByName(kw));
+
+        for (int size : new int[]{DB_ACCOUNTS, INDEX_ACCOUNTS}) {
+            NameSearchIndex index = new NameSearchIndex();
+            for (int i = 0; i < size; i++) index.add(FIRST_ACCOUNT + i, name(i));
+            report("Trigram index, " + size + " names", kw -> index.search(kw, 20));
+        }
+    }
+
+    // ──── HELPERS ────
+
+    private interface Search {
+        Object run(String keyword) throws Exception;
+    }
+
+    private void report(String label, Search search) throws Exception {
+        long[] selective = time(search, SELECTIVE);
+        long[] broad = time(search, BROAD);
+        System.out.printf("%-30s selective p50=%dus p99=%dus | broad p50=%dus p99=%dus%n", label,
+                p(selective, 50), p(selective, 99), p(broad, 50), p(broad, 99));
+    }
+
+    private long[] time(Search search, String[] queries) throws Exception {
+        Random random = new Random(42);
+        long[] nanos = new long[200];
+        for (int i = -20; i < nanos.length; i++) {    // first 20 are warm-up
+            String kw = queries[random.nextInt(queries.length)];
+            long start = System.nanoTime();
+            search.run(kw);
+            if (i >= 0) nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static String name(int i) {
+        return FIRST[i % FIRST.length] + " " + LAST[(i / FIRST.length) % LAST.length] + " " + i;
+    }
+
+    private long p(long[] sorted, int percentile) {
+        return sorted[sorted.length * percentile / 100] / 1000;
+    }
+}
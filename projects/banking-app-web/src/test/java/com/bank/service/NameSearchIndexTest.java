@@ -0,0 +1,52 @@
+package com.bank.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NameSearchIndex: substring matching, ranking, limit,
+ * and keeping the index in sync with updates and deletes.
+ */
+public class NameSearchIndexTest {
+
+    @Test
+    void ranksExactThenPrefixThenWordPrefixThenSubstring() {
+        NameSearchIndex index = new NameSearchIndex();
+        index.add(1, "Anil Ravikumar");    // substring
+        index.add(2, "Kumar Sharma");      // name prefix
+        index.add(3, "Ravi Kumar");        // word prefix
+        index.add(4, "Kumar");             // exact
+        index.add(5, "Priya Singh");       // no match
+
+        assertThat(index.search("KUMAR", 10)).containsExactly(4L, 2L, 3L, 1L);
+        assertThat(index.search("kumar", 2)).containsExactly(4L, 2L);
+        assertThat(index.search("ku", 10)).containsExactly(4L, 2L, 3L, 1L);    // short keyword, same ranking
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        NameSearchIndex index = new NameSearchIndex();
+        index.add(1, "Ravi Kumar");
+        index.add(2, "Priya Singh");
+
+        index.add(1, "Ravi Shankar");
+        assertThat(index.search("kumar", 10)).isEmpty();
+        assertThat(index.search("shankar", 10)).containsExactly(1L);
+
+        index.remove(2);
+        assertThat(index.search("singh", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void compactsTombstonesWithoutLosingLiveNames() {
+        NameSearchIndex index = new NameSearchIndex();
+        for (long i = 0; i < 5000; i++) index.add(i, "Holder " + i);
+        for (long i = 0; i < 4000; i++) index.remove(i);
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.search("holder 4999", 10)).containsExactly(4999L);
+        assertThat(index.search("holder 3999", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.AccountDeletion;
+import com.bank.model.Transaction;
+import com.bank.model.TransactionTotal;
+import com.bank.repository.TransactionPartitionRepository;
+import com.bank.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Monthly partitions: rows land in their month's table, history pages span months,
+ * and an archived month is still served (from its file) with the totals unchanged.
+ * Deleting an account removes its rows from the archive files as well.
+ */
+@SpringBootTest(properties = "bank.partitions.archive-dir=target/test-archive")
+public class TransactionArchiverTest {
+
+    private static final long ACCOUNT = 920_001;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionArchiver transactionArchiver;
+
+    @Autowired
+    private TransactionPartitionRepository transactionPartitionRepository;
+
+    @Test
+    void archivedMonthIsStillReadableFromItsFile() throws Exception {
+        accountService.createAccount(new Account(ACCOUNT, "Cold History", "SAVINGS", 0));
+        List<Transaction> history = new ArrayList<>();
+        for (int day = 1; day <= 20; day++) {
+            history.add(new Transaction(0, ACCOUNT, day % 2 == 0 ? "WITHDRAW" : "DEPOSIT", day, "2021-03-%02d 10:00:00".formatted(day)));
+            history.add(new Transaction(0, ACCOUNT, "DEPOSIT", 100 + day, "2021-04-%02d 10:00:00".formatted(day)));
+        }
+        transactionRepository.insertBatch(history);
+        List<TransactionTotal> totals = accountService.rebuildTransactionTotals();
+
+        List<Transaction> before = accountService.getTransactionHistory(ACCOUNT, null, null, null, null, 100);
+        assertThat(before).hasSize(40);
+        assertThat(before.get(0).getTransactionDate()).startsWith("2021-04-20");
+        assertThat(before.get(39).getTransactionDate()).startsWith("2021-03-01");
+
+        assertThat(transactionArchiver.archive(YearMonth.of(2021, 3)).isArchived()).isTrue();
+
+        // Same page, now half from the table and half from the archive file
+        List<Transaction> after = accountService.getTransactionHistory(ACCOUNT, null, null, null, null, 100);
+        assertThat(after).extracting(Transaction::getTransactionId)
+                .containsExactlyElementsOf(before.stream().map(Transaction::getTransactionId).toList());
+        assertThat(accountService.getTransactionHistory(ACCOUNT, null, LocalDate.of(2021, 3, 5),
+                LocalDate.of(2021, 3, 10), "WITHDRAW", 100)).hasSize(3);
+        assertThat(transactionRepository.findByAccountNumber(ACCOUNT)).hasSize(20);    // online rows only
+
+        // Archived totals still count in a rebuild
+        assertThat(accountService.rebuildTransactionTotals())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(totals);
+    }
+
+    @Test
+    void deletedAccountLeavesNothingInArchiveFiles() throws Exception {
+        long deleted = 920_101;
+        long neighbour = 920_102;
+        YearMonth month = YearMonth.of(2020, 7);
+        accountService.createAccount(new Account(deleted, "Closed Account", "SAVINGS", 0));
+        accountService.createAccount(new Account(neighbour, "Same Month", "SAVINGS", 0));
+        List<Transaction> history = new ArrayList<>();
+        for (int day = 1; day <= 5; day++) {
+            history.add(new Transaction(0, deleted, "DEPOSIT", 10, "2020-07-%02d 10:00:00".formatted(day)));
+        }
+        for (int day = 1; day <= 3; day++) {
+            history.add(new Transaction(0, neighbour, "DEPOSIT", 20, "2020-07-%02d 11:00:00".formatted(day)));
+        }
+        history.add(new Transaction(0, deleted, "DEPOSIT", 1, null));    // one online row as well
+        transactionRepository.insertBatch(history);
+        assertThat(transactionArchiver.archive(month).getArchivedRows()).isEqualTo(8);
+        accountService.rebuildTransactionTotals();
+
+        assertThat(accountService.deleteAccount(deleted).getTotalRows()).isEqualTo(6);
+        AccountDeletion progress = accountService.getDeletionProgress(deleted);
+        for (int i = 0; i < 100 && !"DONE".equals(progress.getStatus()); i++) {
+            Thread.sleep(50);
+            progress = accountService.getDeletionProgress(deleted);
+        }
+        assertThat(progress.getStatus()).isEqualTo("DONE");
+        assertThat(progress.getDeletedRows()).isEqualTo(6);
+        assertThat(transactionPartitionRepository.find(month).getArchivedRows()).isEqualTo(3);
+
+        // A reused account number starts with no history, in the file or in a balance replay
+        accountService.createAccount(new Account(deleted, "New Owner", "SAVINGS", 0));
+        assertThat(accountService.getTransactionHistory(deleted, null, null, null, null, 100)).isEmpty();
+        assertThat(accountService.getBalanceAsOf(deleted, LocalDateTime.of(2020, 6, 1, 0, 0)).getBalance()).isZero();
+        assertThat(accountService.getTransactionHistory(neighbour, null, null, null, null, 100)).hasSize(3);
+    }
+
+    @Test
+    void currentMonthCannotBeArchived() {
+        assertThatThrownBy(() -> transactionArchiver.archive(YearMonth.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
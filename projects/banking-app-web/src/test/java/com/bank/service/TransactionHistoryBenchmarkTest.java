@@ -0,0 +1,103 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.Transaction;
+import com.bank.repository.TransactionPartitionRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark for AccountService.getTransactionHistory.
+ * Grows one account's history to millions of rows and measures the latency of the
+ * first page and of a deep keyset page at each size — both should stay flat.
+ *
+ * Run with: mvn test -Pperf-tests
+ */
+@Tag("perf")
+@SpringBootTest
+public class TransactionHistoryBenchmarkTest {
+
+    private static final long ACCOUNT = 910_001;
+    private static final int[] HISTORY_SIZES = {10_000, 100_000, 1_000_000, 2_000_000};
+    private static final int PAGE_SIZE = 50;
+    private static final int SAMPLES = 500;
+    private static final Timestamp HISTORY_START = Timestamp.valueOf("2020-01-01 00:00:00");
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionPartitionRepository transactionPartitionRepository;
+
+    @Test
+    void historyPageLatencyStaysFlatAsHistoryGrows() throws Exception {
+        accountService.createAccount(new Account(ACCOUNT, "History Heavy", "SAVINGS", 0));
+
+        System.out.printf("%12s %16s %16s %16s%n", "rows", "first p50 (us)", "first p99 (us)", "deep p50 (us)");
+        int loaded = 0;
+        for (int size : HISTORY_SIZES) {
+            seed(loaded, size);
+            loaded = size;
+
+            // A cursor half-way down the history — an OFFSET query would have to skip size/2 rows
+            List<Transaction> first = accountService.getTransactionHistory(ACCOUNT, null, null, null, null, PAGE_SIZE);
+            assertThat(first).hasSize(PAGE_SIZE);
+            Timestamp middle = Timestamp.valueOf(HISTORY_START.toLocalDateTime().plusSeconds(size / 2));
+            String deepCursor = TransactionCursor.encode(new Transaction(0, ACCOUNT, "DEPOSIT", 1, middle.toString()));
+
+            long[] firstPage = measure(null);
+            long[] deepPage = measure(deepCursor);
+            System.out.printf("%12d %16d %16d %16d%n", size,
+                    firstPage[SAMPLES / 2] / 1000, firstPage[SAMPLES * 99 / 100] / 1000, deepPage[SAMPLES / 2] / 1000);
+        }
+    }
+
+    // ──── HELPER: time SAMPLES page reads, sorted for percentile lookup ────
+
+    private long[] measure(String after) {
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            accountService.getTransactionHistory(ACCOUNT, after, null, null, null, PAGE_SIZE);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    // ──── HELPER: set-based insert of rows (from, to], one per second of history ────
+    // 2M seconds stay inside January 2020, so every row lands in that month's partition
+
+    private void seed(int from, int to) throws Exception {
+        String table = transactionPartitionRepository.tableFor(YearMonth.of(2020, 1));
+        String sql = """
+            INSERT INTO %s (account_number, transaction_type, amount, transaction_date)
+            SELECT CAST(? AS BIGINT), CASE WHEN MOD(X, 3) = 0 THEN 'WITHDRAW' ELSE 'DEPOSIT' END, 1,
+                   DATEADD(SECOND, X, CAST(? AS TIMESTAMP))
+            FROM SYSTEM_RANGE(?, ?)
+        """.formatted(table);
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, ACCOUNT);
+            ps.setTimestamp(2, HISTORY_START);
+            ps.setInt(3, from + 1);
+            ps.setInt(4, to);
+            ps.executeUpdate();
+        }
+    }
+}
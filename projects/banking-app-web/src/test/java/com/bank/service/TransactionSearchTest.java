@@ -0,0 +1,133 @@
+package com.bank.service;
+
+import com.bank.model.Account;
+import com.bank.model.Transaction;
+import com.bank.model.TransactionSearchCriteria;
+import com.bank.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Multi-criteria transaction search: filters combine, pages continue by keyset,
+ * and every search path is an index range on a partition that reads only the rows it needs
+ * (guarded with EXPLAIN ANALYZE scan counts).
+ */
+@SpringBootTest
+public class TransactionSearchTest {
+
+    private static final long SALARY = 940_001;     // DEPOSIT of day * 10
+    private static final long SPENDER = 940_002;    // WITHDRAW of day
+    private static final long SAVER = 940_003;      // DEPOSIT of 1000 + day
+    private static final LocalDate FROM = LocalDate.of(2022, 5, 1);
+    private static final LocalDate TO = LocalDate.of(2022, 5, 31);
+    private static final int MAY_ROWS = 90;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @BeforeEach
+    void seedMay2022() throws Exception {
+        if (accountService.getByAccountNumber(SALARY) != null) return;
+        accountService.createAccount(new Account(SALARY, "Salary Account", "CURRENT", 0));
+        accountService.createAccount(new Account(SPENDER, "Spender Account", "SAVINGS", 0));
+        accountService.createAccount(new Account(SAVER, "Saver Account", "SAVINGS", 0));
+
+        List<Transaction> rows = new ArrayList<>();
+        for (int day = 1; day <= 30; day++) {
+            String date = "2022-05-%02d 09:00:00".formatted(day);
+            rows.add(new Transaction(0, SALARY, "DEPOSIT", day * 10, date));
+            rows.add(new Transaction(0, SPENDER, "WITHDRAW", day, date));
+            rows.add(new Transaction(0, SAVER, "DEPOSIT", 1000 + day, date));
+        }
+        transactionRepository.insertBatch(rows);
+    }
+
+    @Test
+    void filtersCombine() {
+        List<Transaction> withdrawals = accountService.searchTransactions(
+                new TransactionSearchCriteria(null, "withdraw", null, null, FROM, TO), null, 100);
+        assertThat(withdrawals).hasSize(30).extracting(Transaction::getAccountNumber).containsOnly(SPENDER);
+
+        List<Transaction> midSized = accountService.searchTransactions(
+                new TransactionSearchCriteria(List.of(SALARY, SAVER), null, 100.0, 250.0, FROM, TO), null, 100);
+        assertThat(midSized).extracting(Transaction::getAmount)
+                .containsExactly(250.0, 240.0, 230.0, 220.0, 210.0, 200.0, 190.0, 180.0,
+                        170.0, 160.0, 150.0, 140.0, 130.0, 120.0, 110.0, 100.0);    // newest first
+
+        List<Transaction> firstWeek = accountService.searchTransactions(
+                new TransactionSearchCriteria(null, "DEPOSIT", null, null, FROM, LocalDate.of(2022, 5, 7)), null, 100);
+        assertThat(firstWeek).hasSize(14);
+    }
+
+    @Test
+    void pagesContinueFromTheCursor() {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(List.of(SALARY, SPENDER, SAVER), null, null, null, FROM, TO);
+        List<Transaction> all = new ArrayList<>();
+        String after = null;
+        List<Transaction> page;
+        do {
+            page = accountService.searchTransactions(criteria, after, 40);
+            all.addAll(page);
+            if (!page.isEmpty()) after = TransactionCursor.encode(page.get(page.size() - 1));
+        } while (page.size() == 40);
+
+        assertThat(all).hasSize(90);
+        assertThat(all).extracting(Transaction::getTransactionId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void everySearchPathIsAnIndexRange() throws Exception {
+        List<TransactionSearchCriteria> paths = List.of(
+                new TransactionSearchCriteria(null, null, null, null, null, null),
+                new TransactionSearchCriteria(null, null, null, null, FROM, TO),
+                new TransactionSearchCriteria(null, "DEPOSIT", null, null, null, null),
+                new TransactionSearchCriteria(null, null, 100.0, 250.0, null, null),
+                new TransactionSearchCriteria(List.of(SALARY), null, null, null, null, null),
+                new TransactionSearchCriteria(List.of(SALARY, SAVER), "DEPOSIT", 100.0, null, FROM, TO));
+
+        for (TransactionSearchCriteria criteria : paths) {
+            List<String> plans = transactionRepository.explainSearch(criteria, Timestamp.valueOf("2022-06-01 00:00:00"),
+                    Integer.MIN_VALUE, 50);
+            assertThat(plans).isNotEmpty().allSatisfy(plan -> {
+                assertThat(plan).doesNotContainIgnoringCase("tableScan");
+                assertThat(plan).containsPattern("IDX_TRANSACTIONS_\\d{6}_\\w+: ");    // an index with a range condition
+                assertThat(scanCount(plan)).isLessThan(MAY_ROWS);                     // never a whole month
+            });
+        }
+
+        // Amount only: 16 SALARY rows of May are in range — the range reads those, not the month
+        List<String> plans = transactionRepository.explainSearch(new TransactionSearchCriteria(null, null, 100.0, 250.0, null, null),
+                Timestamp.valueOf("2022-06-01 00:00:00"), Integer.MIN_VALUE, 50);
+        assertThat(plans).filteredOn(plan -> plan.contains("TRANSACTIONS_202205")).singleElement()
+                .satisfies(plan -> assertThat(scanCount(plan)).isLessThanOrEqualTo(17));
+    }
+
+    private static int scanCount(String plan) {
+        Matcher m = SCAN_COUNT.matcher(plan);
+        assertThat(m.find()).as("scanCount in %s", plan).isTrue();
+        return Integer.parseInt(m.group(1));
+    }
+
+    @Test
+    void contradictoryFiltersAreRejected() {
+        assertThatThrownBy(() -> accountService.searchTransactions(
+                new TransactionSearchCriteria(null, null, 500.0, 100.0, null, null), null, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}